@@ -0,0 +1,331 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH-бенчмарки {@code Heapsort} и его вариантов на разных распределениях входа.
+ * Запуск: {@code ./gradlew jmh}; подмножество параметров можно задать так:
+ * {@code ./gradlew jmh -PjmhArgs="-p size=1000,100000 -p distribution=RANDOM"}.
+ * Размер 100 000 000 в набор по умолчанию не входит, его включают явно:
+ * {@code -PjmhArgs="-p size=100000000"}; форк выделяет 2 ГБ кучи как раз под него.
+ * Каждый бенчмарк копирует эталонный массив в заранее выделенный рабочий буфер,
+ * стоимость копирования измеряется отдельно в {@link #copyBaseline()}.
+ * JMH не допускает бенчмарки в пакете по умолчанию, а {@code Heapsort} лежит именно там,
+ * поэтому методы вызываются через {@code static final} {@link MethodHandle}: JIT сворачивает
+ * такие дескрипторы в константы, и вызов стоит столько же, сколько прямой.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector"})
+public class HeapsortBenchmark {
+    private static final MethodHandle CLASSIC;
+    private static final MethodHandle BOTTOM_UP;
+    private static final MethodHandle METRICS_DISABLED;
+    private static final MethodHandle METRICS_ENABLED;
+    private static final MethodHandle DARY_4;
+    private static final MethodHandle DARY_8;
+    private static final MethodHandle ADAPTIVE;
+    private static final MethodHandle PARALLEL;
+    private static final MethodHandle HYBRID;
+    private static final MethodHandle PARALLEL_BUILD;
+
+    static {
+        try {
+            Class<?> heapsort = Class.forName("Heapsort");
+            Class<?> variant = Class.forName("Heapsort$Variant");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodType sortType = MethodType.methodType(void.class, int[].class);
+
+            CLASSIC = lookup.findStatic(heapsort, "sort", sortType);
+            BOTTOM_UP = MethodHandles.insertArguments(
+                    lookup.findStatic(heapsort, "sort", sortType.appendParameterTypes(variant)),
+                    1, enumConstant(variant, "BOTTOM_UP"));
+            Class<?> metrics = Class.forName("SortMetrics");
+            MethodHandle instrumented = MethodHandles.insertArguments(
+                    lookup.findStatic(heapsort, "sort",
+                            sortType.appendParameterTypes(variant, metrics)),
+                    1, enumConstant(variant, "CLASSIC"));
+            METRICS_DISABLED = MethodHandles.insertArguments(instrumented, 1, (Object) null);
+            METRICS_ENABLED = MethodHandles.insertArguments(instrumented, 1,
+                    Proxy.newProxyInstance(metrics.getClassLoader(), new Class<?>[] {metrics},
+                            (proxy, method, args) -> null));
+            MethodHandle dary = lookup.findStatic(heapsort, "sort",
+                    sortType.appendParameterTypes(int.class));
+            DARY_4 = MethodHandles.insertArguments(dary, 1, 4);
+            DARY_8 = MethodHandles.insertArguments(dary, 1, 8);
+            ADAPTIVE = lookup.findStatic(heapsort, "adaptiveSort", sortType);
+            PARALLEL = lookup.findStatic(heapsort, "parallelSort", sortType);
+            HYBRID = lookup.findStatic(heapsort, "hybridSort", sortType);
+            PARALLEL_BUILD = lookup.findStatic(heapsort, "parallelBuildSort", sortType);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Константа перечисления по имени; через {@link Class#getEnumConstants()}, потому что
+     * тип перечисления известен только во время выполнения.
+     *
+     * @param type класс перечисления
+     * @param name имя константы
+     * @return константа
+     * @throws ReflectiveOperationException если константы с таким именем нет
+     */
+    private static Object enumConstant(Class<?> type, String name)
+            throws ReflectiveOperationException {
+        for (Object constant : type.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+        throw new NoSuchFieldException(type.getName() + "." + name);
+    }
+
+    /**
+     * Распределения входных данных.
+     */
+    public enum Distribution {
+        /** Равномерно случайные значения. */
+        RANDOM,
+        /** Уже отсортированный массив. */
+        SORTED,
+        /** Массив, отсортированный по убыванию. */
+        REVERSED,
+        /** Повторяющиеся возрастающие участки длины 1000. */
+        SAWTOOTH,
+        /** Всего 10 различных значений. */
+        FEW_UNIQUE,
+        /** Возрастание до середины, затем убывание. */
+        ORGAN_PIPE;
+
+        int[] generate(int n, long seed) {
+            SplittableRandom rnd = new SplittableRandom(seed);
+            int[] a = new int[n];
+            for (int i = 0; i < n; i++) {
+                switch (this) {
+                    case SORTED:
+                        a[i] = i;
+                        break;
+                    case REVERSED:
+                        a[i] = n - i;
+                        break;
+                    case SAWTOOTH:
+                        a[i] = i % 1000;
+                        break;
+                    case FEW_UNIQUE:
+                        a[i] = rnd.nextInt(10);
+                        break;
+                    case ORGAN_PIPE:
+                        a[i] = i < n / 2 ? i : n - i;
+                        break;
+                    default:
+                        a[i] = rnd.nextInt();
+                        break;
+                }
+            }
+            return a;
+        }
+    }
+
+    /** Длина сортируемого массива. */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /** Распределение входных данных. */
+    @Param({"RANDOM", "SORTED", "REVERSED", "SAWTOOTH", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public Distribution distribution;
+
+    private int[] source;
+    private int[] work;
+
+    /**
+     * Генерирует эталонный массив один раз на прогон.
+     */
+    @Setup
+    public void setUp() {
+        source = distribution.generate(size, 42);
+        work = new int[size];
+    }
+
+    private int[] fresh() {
+        System.arraycopy(source, 0, work, 0, size);
+        return work;
+    }
+
+    /**
+     * Стоимость копирования эталона, которую нужно вычитать из остальных результатов.
+     *
+     * @return рабочий буфер
+     */
+    @Benchmark
+    public int[] copyBaseline() {
+        return fresh();
+    }
+
+    /**
+     * Классический heapsort.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] classic() throws Throwable {
+        int[] a = fresh();
+        CLASSIC.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Классический вариант через инструментированную точку входа с отключёнными
+     * метриками; должен совпадать с {@link #classic()}.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] classicMetricsDisabled() throws Throwable {
+        int[] a = fresh();
+        METRICS_DISABLED.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Классический вариант с включёнными метриками и пустым слушателем.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] classicMetricsEnabled() throws Throwable {
+        int[] a = fresh();
+        METRICS_ENABLED.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Восходящее просеивание.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] bottomUp() throws Throwable {
+        int[] a = fresh();
+        BOTTOM_UP.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * 4-арная куча.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] dary4() throws Throwable {
+        int[] a = fresh();
+        DARY_4.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * 8-арная куча.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] dary8() throws Throwable {
+        int[] a = fresh();
+        DARY_8.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Адаптивный диспетчер.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] adaptive() throws Throwable {
+        int[] a = fresh();
+        ADAPTIVE.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Параллельная сортировка с порогом по умолчанию.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] parallel() throws Throwable {
+        int[] a = fresh();
+        PARALLEL.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Гибридный heapsort: нижние поддеревья и хвост извлечения — сортирующей сетью.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] hybrid() throws Throwable {
+        int[] a = fresh();
+        HYBRID.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Тот же гибрид с векторным ядром сети ({@code -Dheapsort.networkKernel=vector}).
+     * Векторное ядро включают только для размеров, на которых этот бенчмарк
+     * обгоняет {@link #hybrid()}.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules=jdk.incubator.vector",
+            "-Dheapsort.networkKernel=vector"})
+    public int[] hybridVectorKernel() throws Throwable {
+        int[] a = fresh();
+        HYBRID.invokeExact(a);
+        return a;
+    }
+
+    /**
+     * Heapsort с параллельным построением кучи и последовательным извлечением.
+     *
+     * @return отсортированный буфер
+     * @throws Throwable при ошибке вызова
+     */
+    @Benchmark
+    public int[] parallelBuild() throws Throwable {
+        int[] a = fresh();
+        PARALLEL_BUILD.invokeExact(a);
+        return a;
+    }
+}
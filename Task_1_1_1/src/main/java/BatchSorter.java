@@ -0,0 +1,379 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Пакетная сортировка множества небольших массивов.
+ * Вход — текст, по одному массиву на строку (числа через пробелы). Строки разбираются
+ * и сортируются параллельно, результаты пишутся в исходном порядке через буферизованный
+ * канал NIO. Разбор и форматирование идут в переиспользуемые буферы {@link LineBuffer}
+ * из пула: числа — в {@code int[]}, цифры результата — прямо в {@code byte[]}.
+ * Задачи выполняются на виртуальных потоках, если их поддерживает JVM (Java 21+),
+ * иначе — на пуле платформенных потоков по числу процессоров.
+ */
+public class BatchSorter {
+    /** Размер выходного буфера, байт. */
+    static final int OUTPUT_BUFFER_BYTES = 64 * 1024;
+
+    /** Начальная длина буфера разбора. */
+    static final int INITIAL_SCRATCH_LENGTH = 1024;
+
+    /** Наибольшая длина десятичной записи {@code int} со знаком. */
+    private static final int MAX_INT_CHARS = 11;
+
+    private final int window;
+    private final BlockingQueue<LineBuffer> pool;
+
+    /**
+     * Буферы одной строки: разобранные числа и отформатированный результат.
+     * Берётся из пула задачей сортировки и возвращается после записи результата.
+     */
+    static final class LineBuffer {
+        int[] values = new int[INITIAL_SCRATCH_LENGTH];
+        byte[] text = new byte[INITIAL_SCRATCH_LENGTH * 4];
+        int length;
+    }
+
+    /**
+     * Итог обработки пакета.
+     */
+    public static final class Result {
+        private final long arrays;
+        private final long nanos;
+
+        Result(long arrays, long nanos) {
+            this.arrays = arrays;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Число обработанных массивов (строк).
+         *
+         * @return количество массивов
+         */
+        public long arrays() {
+            return arrays;
+        }
+
+        /**
+         * Время обработки пакета.
+         *
+         * @return длительность, нс
+         */
+        public long nanos() {
+            return nanos;
+        }
+
+        /**
+         * Пропускная способность.
+         *
+         * @return массивов в секунду
+         */
+        public double arraysPerSecond() {
+            return nanos == 0 ? 0 : arrays * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * Создаёт сортировщик с числом одновременно обрабатываемых строк по числу процессоров.
+     */
+    public BatchSorter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создаёт сортировщик.
+     *
+     * @param parallelism число одновременно сортируемых массивов
+     * @throws IllegalArgumentException если {@code parallelism < 1}
+     */
+    public BatchSorter(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Параллелизм должен быть положительным: " + parallelism);
+        }
+        this.window = parallelism * 4;
+        this.pool = new ArrayBlockingQueue<>(window);
+        for (int i = 0; i < window; i++) {
+            pool.add(new LineBuffer());
+        }
+    }
+
+    /**
+     * Сортирует все массивы из {@code in} и пишет их в {@code out} в исходном порядке.
+     * Потоки не закрываются; {@code out} сбрасывается по завершении.
+     *
+     * @param in  вход: массивы по одному на строку
+     * @param out выход в том же формате
+     * @return статистика обработки
+     * @throws IOException при ошибке ввода-вывода или неверном числе во входе
+     */
+    public Result sort(InputStream in, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long arrays = 0;
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.US_ASCII), OUTPUT_BUFFER_BYTES);
+        WritableByteChannel channel = Channels.newChannel(out);
+        ByteBuffer buf = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES);
+        Deque<Future<LineBuffer>> inFlight = new ArrayDeque<>(window);
+
+        ExecutorService executor = newExecutor();
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String text = line;
+                long lineNo = ++arrays;
+                if (inFlight.size() == window) {
+                    writeNext(inFlight, channel, buf);
+                }
+                inFlight.addLast(executor.submit(() -> sortLine(text, lineNo)));
+            }
+            while (!inFlight.isEmpty()) {
+                writeNext(inFlight, channel, buf);
+            }
+            flush(channel, buf);
+            out.flush();
+        } finally {
+            try {
+                drain(inFlight);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        return new Result(arrays, System.nanoTime() - start);
+    }
+
+    /**
+     * Разбирает строку в буфер из пула, сортирует и форматирует результат в тот же буфер.
+     * При ошибке буфер сразу возвращается в пул, иначе его возвращает запись результата.
+     *
+     * @param line   строка входа
+     * @param lineNo номер строки для сообщений об ошибках
+     * @return буфер, в котором {@code text[0 .. length)} — строка результата,
+     *         завершённая {@code '\n'}
+     */
+    LineBuffer sortLine(String line, long lineNo) throws IOException, InterruptedException {
+        LineBuffer lb = pool.take();
+        try {
+            int[] scratch = lb.values;
+            int n = 0;
+            int len = line.length();
+            int i = 0;
+            while (i < len) {
+                while (i < len && Character.isWhitespace(line.charAt(i))) {
+                    i++;
+                }
+                int from = i;
+                while (i < len && !Character.isWhitespace(line.charAt(i))) {
+                    i++;
+                }
+                if (from == i) {
+                    break;
+                }
+                if (n == scratch.length) {
+                    scratch = Arrays.copyOf(scratch, n * 2);
+                    lb.values = scratch;
+                }
+                try {
+                    scratch[n++] = Integer.parseInt(line, from, i, 10);
+                } catch (NumberFormatException e) {
+                    throw new IOException("Строка " + lineNo + ": неверное число '"
+                            + line.substring(from, i) + "'", e);
+                }
+            }
+
+            Heapsort.sort(scratch, 0, n);
+
+            // перед каждым числом в буфере есть место на пробел, число и '\n'
+            int reserve = MAX_INT_CHARS + 2;
+            byte[] text = lb.text;
+            int pos = 0;
+            for (int k = 0; k < n; k++) {
+                if (text.length - pos < reserve) {
+                    text = Arrays.copyOf(text, Math.max(text.length * 2, pos + reserve));
+                    lb.text = text;
+                }
+                if (k > 0) {
+                    text[pos++] = ' ';
+                }
+                pos = formatInt(scratch[k], text, pos);
+            }
+            text[pos++] = '\n';
+            lb.length = pos;
+            return lb;
+        } catch (IOException | RuntimeException e) {
+            pool.put(lb);
+            throw e;
+        }
+    }
+
+    /**
+     * Записывает десятичную запись {@code v} в {@code dst}, начиная с {@code pos}.
+     * Цифры получаются в отрицательной области, поэтому {@link Integer#MIN_VALUE}
+     * обрабатывается без особого случая.
+     *
+     * @param v   число
+     * @param dst приёмник, в котором есть место на {@code 11} символов
+     * @param pos позиция записи
+     * @return позиция после последней цифры
+     */
+    static int formatInt(int v, byte[] dst, int pos) {
+        int q = v;
+        if (q < 0) {
+            dst[pos++] = '-';
+        } else {
+            q = -q;
+        }
+        int digits = 1;
+        for (int t = q; t <= -10; t /= 10) {
+            digits++;
+        }
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            dst[i] = (byte) ('0' - q % 10);
+            q /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * Дожидается первой задачи очереди и пишет её результат. Задача снимается с очереди
+     * только после того, как её буфер получен: если ожидание прервано или задача упала,
+     * она остаётся в очереди для {@link #drain(Deque)}.
+     */
+    private void writeNext(Deque<Future<LineBuffer>> inFlight, WritableByteChannel channel,
+                           ByteBuffer buf) throws IOException {
+        LineBuffer lb = await(inFlight.peekFirst());
+        inFlight.removeFirst();
+        writeAndRelease(lb, channel, buf);
+    }
+
+    /**
+     * Дожидается всех незаписанных задач и возвращает их буферы в пул, чтобы после
+     * ошибки в пакете сортировщик можно было использовать повторно. Задачи не
+     * отменяются: отменённая уже запущенная задача унесла бы свой буфер. Упавшие задачи
+     * свой буфер вернули сами. Вызывается до остановки исполнителя, иначе задачи из его
+     * очереди никогда не завершились бы.
+     *
+     * @param inFlight задачи, результаты которых не записаны
+     */
+    private void drain(Deque<Future<LineBuffer>> inFlight) {
+        boolean interrupted = false;
+        while (!inFlight.isEmpty()) {
+            try {
+                pool.add(inFlight.peekFirst().get());
+            } catch (InterruptedException e) {
+                interrupted = true;
+                continue;
+            } catch (ExecutionException e) {
+                // буфер вернула сама задача
+            }
+            inFlight.removeFirst();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Число свободных буферов в пуле.
+     *
+     * @return размер пула
+     */
+    int pooledBuffers() {
+        return pool.size();
+    }
+
+    private static LineBuffer await(Future<LineBuffer> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Пакетная сортировка прервана", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private void writeAndRelease(LineBuffer lb, WritableByteChannel channel, ByteBuffer buf)
+            throws IOException {
+        try {
+            int off = 0;
+            while (off < lb.length) {
+                if (!buf.hasRemaining()) {
+                    flush(channel, buf);
+                }
+                int chunk = Math.min(buf.remaining(), lb.length - off);
+                buf.put(lb.text, off, chunk);
+                off += chunk;
+            }
+        } finally {
+            pool.add(lb);
+        }
+    }
+
+    private static void flush(WritableByteChannel channel, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            channel.write(buf);
+        }
+        buf.clear();
+    }
+
+    /**
+     * Исполнитель на виртуальных потоках, если они доступны, иначе пул платформенных потоков.
+     *
+     * @return новый исполнитель
+     */
+    static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    /**
+     * Точка входа CLI: {@code BatchSorter [файл]}. Без аргумента читает stdin.
+     * Результат пишется в stdout, статистика — в stderr.
+     *
+     * @param args необязательный путь к входному файлу
+     * @throws IOException при ошибке ввода-вывода
+     */
+    public static void main(String[] args) throws IOException {
+        BatchSorter sorter = new BatchSorter();
+        Result result;
+        if (args.length > 0) {
+            try (InputStream in = Files.newInputStream(Path.of(args[0]))) {
+                result = sorter.sort(in, System.out);
+            }
+        } else {
+            result = sorter.sort(System.in, System.out);
+        }
+        System.err.printf("Массивов: %d за %.3f с, %.1f массивов/с%n",
+                result.arrays(), result.nanos() / 1e9, result.arraysPerSecond());
+    }
+}
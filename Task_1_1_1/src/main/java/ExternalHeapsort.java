@@ -0,0 +1,286 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Внешняя сортировка двоичных файлов из {@code int} в порядке big-endian,
+ * не помещающихся в память.
+ * Алгоритм: файл режется на серии размером с бюджет памяти, каждая серия сортируется
+ * {@link Heapsort#sort(int[], int, int)} и сбрасывается во временный файл, затем серии
+ * сливаются k-путевым слиянием через min-кучу. Если серий больше, чем позволяет бюджет
+ * на буферы слияния, слияние выполняется в несколько проходов.
+ */
+public class ExternalHeapsort {
+    /** Минимальный размер буфера чтения одной серии при слиянии, байт. */
+    static final int MIN_MERGE_BUFFER_BYTES = 4096;
+
+    /** Размер буфера ввода-вывода при нарезке серий, байт. */
+    static final int IO_BUFFER_BYTES = 64 * 1024;
+
+    private final long memoryBudgetBytes;
+    private final Path tempDir;
+
+    /**
+     * Создаёт сортировщик с временными файлами в {@code java.io.tmpdir}.
+     *
+     * @param memoryBudgetBytes бюджет памяти под серию и буферы слияния, байт
+     */
+    public ExternalHeapsort(long memoryBudgetBytes) {
+        this(memoryBudgetBytes, Path.of(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Создаёт сортировщик.
+     *
+     * @param memoryBudgetBytes бюджет памяти под серию и буферы слияния, байт;
+     *                          не меньше {@code 3 * MIN_MERGE_BUFFER_BYTES}
+     * @param tempDir           каталог для временных файлов серий
+     * @throws IllegalArgumentException если бюджет слишком мал
+     */
+    public ExternalHeapsort(long memoryBudgetBytes, Path tempDir) {
+        if (memoryBudgetBytes < 3L * MIN_MERGE_BUFFER_BYTES) {
+            throw new IllegalArgumentException(
+                    "Бюджет памяти должен быть не меньше " + 3 * MIN_MERGE_BUFFER_BYTES
+                            + " байт: " + memoryBudgetBytes);
+        }
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Сортирует файл {@code input} по не убыванию и записывает результат в {@code output}.
+     * Временные файлы удаляются и при успехе, и при ошибке.
+     *
+     * @param input  исходный файл из {@code int} big-endian
+     * @param output файл результата (перезаписывается)
+     * @throws IOException при ошибке ввода-вывода или если длина файла не кратна 4
+     */
+    public void sort(Path input, Path output) throws IOException {
+        List<Path> created = new ArrayList<>();
+        try {
+            List<Path> runs = createRuns(input, created);
+            int fanIn = maxFanIn();
+            ByteBuffer[] buffers = mergeBuffers(Math.min(fanIn, runs.size()));
+            while (runs.size() > fanIn) {
+                List<Path> next = new ArrayList<>();
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                    Path merged = newRunFile(created);
+                    next.add(merged);
+                    merge(group, merged, buffers);
+                    for (Path p : group) {
+                        Files.deleteIfExists(p);
+                    }
+                }
+                runs = next;
+            }
+            merge(runs, output, buffers);
+        } finally {
+            for (Path p : created) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private Path newRunFile(List<Path> created) throws IOException {
+        Path file = Files.createTempFile(tempDir, "heapsort-run", ".bin");
+        created.add(file);
+        return file;
+    }
+
+    /**
+     * Число серий, сливаемых за один проход: на каждую серию и на выход
+     * приходится по буферу не меньше {@link #MIN_MERGE_BUFFER_BYTES}.
+     *
+     * @return допустимая степень слияния, не меньше 2
+     */
+    int maxFanIn() {
+        return (int) Math.max(2, Math.min(1024, memoryBudgetBytes / MIN_MERGE_BUFFER_BYTES - 1));
+    }
+
+    private List<Path> createRuns(Path input, List<Path> created) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long total = in.size();
+            if (total % Integer.BYTES != 0) {
+                throw new IOException("Длина файла не кратна " + Integer.BYTES + ": " + total);
+            }
+            long totalInts = total / Integer.BYTES;
+            long runCapacity = Math.min(memoryBudgetBytes / Integer.BYTES, Integer.MAX_VALUE - 8);
+            int[] run = new int[(int) Math.min(runCapacity, totalInts)];
+            ByteBuffer io = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+
+            long remaining = totalInts;
+            while (remaining > 0) {
+                int len = (int) Math.min(run.length, remaining);
+                readInts(in, io, run, len);
+                Heapsort.sort(run, 0, len);
+
+                Path runFile = newRunFile(created);
+                runs.add(runFile);
+                try (FileChannel out = FileChannel.open(runFile, StandardOpenOption.WRITE)) {
+                    writeInts(out, io, run, len);
+                }
+                remaining -= len;
+            }
+        }
+        return runs;
+    }
+
+    private static void readInts(FileChannel in, ByteBuffer io, int[] dst, int len)
+            throws IOException {
+        int off = 0;
+        while (off < len) {
+            io.clear();
+            io.limit((int) Math.min(io.capacity(), (long) (len - off) * Integer.BYTES));
+            while (io.hasRemaining()) {
+                if (in.read(io) < 0) {
+                    throw new IOException("Неожиданный конец файла");
+                }
+            }
+            io.flip();
+            int count = io.remaining() / Integer.BYTES;
+            io.asIntBuffer().get(dst, off, count);
+            off += count;
+        }
+    }
+
+    private static void writeInts(FileChannel out, ByteBuffer io, int[] src, int len)
+            throws IOException {
+        int off = 0;
+        while (off < len) {
+            io.clear();
+            int count = Math.min(io.capacity() / Integer.BYTES, len - off);
+            io.asIntBuffer().put(src, off, count);
+            io.limit(count * Integer.BYTES);
+            while (io.hasRemaining()) {
+                out.write(io);
+            }
+            off += count;
+        }
+    }
+
+    /**
+     * Буферы слияния, общие для всех проходов одной сортировки: {@code [0]} — выходной,
+     * {@code [1 .. k]} — по одному на читаемую серию. Размер рассчитан на самый широкий
+     * проход, более узкие используют первые буферы.
+     *
+     * @param k наибольшее число серий в одном проходе
+     * @return {@code k + 1} буферов
+     */
+    private ByteBuffer[] mergeBuffers(int k) {
+        int bufferBytes = (int) Math.max(MIN_MERGE_BUFFER_BYTES,
+                Math.min(IO_BUFFER_BYTES * 16L, memoryBudgetBytes / (k + 1)));
+        bufferBytes -= bufferBytes % Integer.BYTES;
+        ByteBuffer[] buffers = new ByteBuffer[k + 1];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.allocateDirect(bufferBytes);
+        }
+        return buffers;
+    }
+
+    /**
+     * k-путевое слияние отсортированных файлов в {@code target} через min-кучу
+     * {@link Heapsort#siftDownRuns(int[], int[], int, int)}: куча хранит номера серий,
+     * ключи — текущие головы серий в {@code heads}.
+     */
+    private static void merge(List<Path> runFiles, Path target, ByteBuffer[] buffers)
+            throws IOException {
+        int k = runFiles.size();
+        RunReader[] readers = new RunReader[k];
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int[] heads = new int[k];
+            int[] heap = new int[k];
+            int size = 0;
+            for (int r = 0; r < k; r++) {
+                readers[r] = new RunReader(runFiles.get(r), buffers[r + 1]);
+                if (readers[r].hasNext()) {
+                    heads[r] = readers[r].next();
+                    heap[size++] = r;
+                }
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                Heapsort.siftDownRuns(heads, heap, size, i);
+            }
+
+            ByteBuffer outBuf = buffers[0].clear();
+            while (size > 0) {
+                int r = heap[0];
+                if (!outBuf.hasRemaining()) {
+                    drain(out, outBuf);
+                }
+                outBuf.putInt(heads[r]);
+                if (readers[r].hasNext()) {
+                    heads[r] = readers[r].next();
+                } else if (--size > 0) {
+                    heap[0] = heap[size];
+                } else {
+                    break;
+                }
+                Heapsort.siftDownRuns(heads, heap, size, 0);
+            }
+            drain(out, outBuf);
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) {
+            out.write(buf);
+        }
+        buf.clear();
+    }
+
+    /**
+     * Буферизованное последовательное чтение {@code int} из файла серии.
+     */
+    private static final class RunReader {
+        private final FileChannel channel;
+        private final ByteBuffer buf;
+        private boolean eof;
+
+        RunReader(Path file, ByteBuffer buf) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.buf = buf;
+            this.buf.clear().flip();
+        }
+
+        boolean hasNext() throws IOException {
+            if (buf.remaining() >= Integer.BYTES) {
+                return true;
+            }
+            if (eof) {
+                return false;
+            }
+            buf.compact();
+            while (buf.position() < Integer.BYTES || buf.hasRemaining()) {
+                if (channel.read(buf) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+            buf.flip();
+            return buf.remaining() >= Integer.BYTES;
+        }
+
+        int next() {
+            return buf.getInt();
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+}
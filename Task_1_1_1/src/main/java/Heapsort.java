@@ -1,8 +1,68 @@
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
 /**
- * Сортировка кучей целочисленного массива.
+ * Сортировка кучей массивов примитивных типов.
  * Алгоритм: построение кучи, затем поочерёдная экстракция максимума в хвост массива.
  */
 public class Heapsort {
+    /**
+     * Минимальный размер серии по умолчанию для {@link #parallelSort(int[])}: массивы
+     * короче двух порогов сортируются в текущем потоке.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Минимальный размер поддерева, которое строится отдельной задачей
+     * в {@link #parallelBuildSort(int[])}.
+     */
+    static final int PARALLEL_BUILD_MIN_SUBTREE = 1 << 15;
+
+    /** Число поддеревьев, которые {@link #hybridSort(int[])} передаёт ядру сети за раз. */
+    static final int HYBRID_BATCH = 64;
+
+    /** Массивы не длиннее сортируются в {@link #adaptiveSort(int[])} вставками. */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /** Наибольший диапазон значений, для которого допустима сортировка подсчётом. */
+    static final int COUNTING_SORT_MAX_RANGE = 1 << 22;
+
+    /**
+     * Вариант процедуры просеивания, используемой при сортировке {@code int[]}.
+     */
+    public enum Variant {
+        /** Классическое рекурсивное просеивание: два сравнения на уровень. */
+        CLASSIC,
+        /**
+         * Восходящее просеивание (Floyd): спуск к листу по большему потомку
+         * с одним сравнением на уровень, затем подъём к месту вставки. Без рекурсии.
+         */
+        BOTTOM_UP
+    }
+
+    /**
+     * Метод, выбранный {@link #adaptiveSort(int[])} для конкретного входа.
+     */
+    enum AdaptivePath {
+        /** Короткий массив: сортировка вставками. */
+        INSERTION,
+        /** Массив уже упорядочен по не убыванию. */
+        ALREADY_SORTED,
+        /** Массив упорядочен по не возрастанию: достаточно развернуть. */
+        REVERSED,
+        /** Узкий диапазон значений: сортировка подсчётом. */
+        COUNTING,
+        /** Общий случай: heapsort. */
+        HEAPSORT
+    }
+
     /**
      * Сортирует массив по не убыванию с помощью алгоритма heapsort.
      *
@@ -28,6 +88,88 @@ public class Heapsort {
         }
     }
 
+    /**
+     * Сортирует массив по не убыванию выбранным вариантом heapsort.
+     *
+     * @param arr     массив для сортировки (меняется "на месте")
+     * @param variant вариант просеивания
+     */
+    public static void sort(int[] arr, Variant variant) {
+        if (variant == Variant.CLASSIC) {
+            sort(arr);
+            return;
+        }
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownBottomUp(arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            siftDownBottomUp(arr, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив по не убыванию с помощью d-арной кучи.
+     * Высота кучи уменьшается в {@code log2(d)} раз, а потомки узла {@code i} лежат
+     * подряд в {@code [d*i+1, d*i+d]} и читаются последовательно. Выравнивание групп
+     * потомков по кэш-линиям не гарантируется: JVM не выравнивает элементы массива
+     * по 64 байтам, и при {@code d = 8} группа часто занимает две линии.
+     *
+     * @param arr   массив для сортировки (меняется "на месте")
+     * @param arity арность кучи, не меньше 2 (рекомендуются 2, 4 или 8)
+     * @throws IllegalArgumentException если {@code arity < 2}
+     */
+    public static void sort(int[] arr, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Арность кучи должна быть не меньше 2: " + arity);
+        }
+        int n = arr.length;
+        if (n < 2) {
+            return;
+        }
+        for (int i = (n - 2) / arity; i >= 0; i--) {
+            siftDownDary(arr, n, i, arity);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            siftDownDary(arr, i, 0, arity);
+        }
+    }
+
+    /**
+     * «Кучевание» поддерева d-арной max-кучи. Просеиваемый элемент удерживается
+     * в регистре, а больший из потомков поднимается на место «дырки».
+     *
+     * @param arr   массив-куча
+     * @param n     эффективный размер кучи
+     * @param i     индекс корня поддерева
+     * @param arity арность кучи
+     */
+    static void siftDownDary(int[] arr, int n, int i, int arity) {
+        int x = arr[i];
+        int lastParent = (n - 2) / arity;
+        while (n > 1 && i <= lastParent) {
+            int first = arity * i + 1;
+            int end = Math.min(first + arity, n);
+            int largest = first;
+            for (int c = first + 1; c < end; c++) {
+                if (arr[c] > arr[largest]) {
+                    largest = c;
+                }
+            }
+            if (arr[largest] <= x) {
+                break;
+            }
+            arr[i] = arr[largest];
+            i = largest;
+        }
+        arr[i] = x;
+    }
 
     /**
      * «Кучевание» поддерева: делает поддерево с корнем в {@code i} корректной max-кучей,
@@ -63,6 +205,1350 @@ public class Heapsort {
         }
     }
 
+    /**
+     * Восходящее (bottom-up) просеивание элемента {@code arr[i]}.
+     * Сначала спускается до листа по пути больших потомков, затем поднимается
+     * вверх до первого элемента, не меньшего просеиваемого, и сдвигает путь на уровень вверх.
+     *
+     * @param arr массив-куча
+     * @param n   эффективный размер кучи
+     * @param i   индекс корня поддерева
+     */
+    static void siftDownBottomUp(int[] arr, int n, int i) {
+        int x = arr[i];
+
+        // Спуск к листу: одно сравнение на уровень
+        int j = i;
+        int child = 2 * j + 1;
+        while (child < n) {
+            if (child + 1 < n && arr[child + 1] > arr[child]) {
+                child++;
+            }
+            j = child;
+            child = 2 * j + 1;
+        }
+
+        // Подъём до места вставки
+        while (j > i && arr[j] < x) {
+            j = (j - 1) / 2;
+        }
+
+        // Циклический сдвиг пути [i, j] на уровень вверх
+        int carry = arr[j];
+        arr[j] = x;
+        while (j > i) {
+            j = (j - 1) / 2;
+            int t = arr[j];
+            arr[j] = carry;
+            carry = t;
+        }
+    }
+
+    /**
+     * Инструментированная сортировка: то же, что {@link #sort(int[], Variant)}, но по
+     * завершении каждой фазы сообщает в {@code metrics} число сравнений и обменов,
+     * гистограмму глубин просеивания и длительность фазы. При {@code metrics == null}
+     * вызывается обычная сортировка без каких-либо счётчиков.
+     *
+     * @param arr     массив для сортировки (меняется "на месте")
+     * @param variant вариант просеивания
+     * @param metrics приёмник метрик или {@code null}
+     */
+    public static void sort(int[] arr, Variant variant, SortMetrics metrics) {
+        if (metrics == null) {
+            sort(arr, variant);
+            return;
+        }
+        int n = arr.length;
+        Probe probe = new Probe(n);
+
+        long t0 = System.nanoTime();
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            instrumentedSiftDown(arr, n, i, variant, probe);
+        }
+        long t1 = System.nanoTime();
+        metrics.onPhase(SortMetrics.Phase.BUILD, t1 - t0,
+                probe.comparisons, probe.swaps, probe.depths.clone());
+
+        probe.reset();
+        t1 = System.nanoTime();
+        for (int i = n - 1; i > 0; i--) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            probe.swaps++;
+            instrumentedSiftDown(arr, i, 0, variant, probe);
+        }
+        long t2 = System.nanoTime();
+        metrics.onPhase(SortMetrics.Phase.EXTRACT, t2 - t1,
+                probe.comparisons, probe.swaps, probe.depths.clone());
+    }
+
+    /**
+     * Сортирует массив выбранным вариантом и возвращает общее число сравнений элементов.
+     *
+     * @param arr     массив для сортировки (меняется "на месте")
+     * @param variant вариант просеивания
+     * @return количество сравнений элементов массива
+     */
+    static long countComparisons(int[] arr, Variant variant) {
+        long[] total = new long[1];
+        sort(arr, variant, (phase, nanos, comparisons, swaps, depths) -> total[0] += comparisons);
+        return total[0];
+    }
+
+    /**
+     * Счётчики одной фазы инструментированной сортировки.
+     */
+    private static final class Probe {
+        long comparisons;
+        long swaps;
+        final long[] depths;
+
+        Probe(int n) {
+            depths = new long[32 - Integer.numberOfLeadingZeros(Math.max(n, 1))];
+        }
+
+        void reset() {
+            comparisons = 0;
+            swaps = 0;
+            Arrays.fill(depths, 0);
+        }
+    }
+
+    private static void instrumentedSiftDown(int[] arr, int n, int i, Variant variant, Probe p) {
+        int depth = 0;
+        if (variant == Variant.CLASSIC) {
+            while (true) {
+                int largest = i;
+                int l = 2 * i + 1;
+                int r = l + 1;
+                if (l < n) {
+                    p.comparisons++;
+                    if (arr[l] > arr[largest]) {
+                        largest = l;
+                    }
+                }
+                if (r < n) {
+                    p.comparisons++;
+                    if (arr[r] > arr[largest]) {
+                        largest = r;
+                    }
+                }
+                if (largest == i) {
+                    break;
+                }
+                int swap = arr[i];
+                arr[i] = arr[largest];
+                arr[largest] = swap;
+                p.swaps++;
+                depth++;
+                i = largest;
+            }
+            p.depths[depth]++;
+            return;
+        }
+
+        int x = arr[i];
+        int j = i;
+        int child = 2 * j + 1;
+        while (child < n) {
+            if (child + 1 < n) {
+                p.comparisons++;
+                if (arr[child + 1] > arr[child]) {
+                    child++;
+                }
+            }
+            j = child;
+            child = 2 * j + 1;
+        }
+        while (j > i) {
+            p.comparisons++;
+            if (arr[j] >= x) {
+                break;
+            }
+            j = (j - 1) / 2;
+        }
+        int carry = arr[j];
+        arr[j] = x;
+        while (j > i) {
+            j = (j - 1) / 2;
+            int t = arr[j];
+            arr[j] = carry;
+            carry = t;
+            p.swaps++;
+            depth++;
+        }
+        p.depths[depth]++;
+    }
+
+    /**
+     * Сортирует диапазон {@code [fromIndex, toIndex)} массива по не убыванию.
+     *
+     * @param arr       массив, диапазон которого сортируется "на месте"
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex   конец диапазона (не включительно)
+     * @throws IndexOutOfBoundsException если диапазон выходит за границы массива
+     */
+    public static void sort(int[] arr, int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, arr.length);
+        int n = toIndex - fromIndex;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, fromIndex, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = arr[fromIndex];
+            arr[fromIndex] = arr[fromIndex + i];
+            arr[fromIndex + i] = temp;
+            siftDown(arr, fromIndex, i, 0);
+        }
+    }
+
+    /**
+     * Итеративное просеивание в куче, расположенной в {@code arr[base .. base + n)}.
+     * Индексы {@code n} и {@code i} отсчитываются от {@code base}.
+     *
+     * @param arr  массив, содержащий кучу
+     * @param base смещение корня кучи в массиве
+     * @param n    эффективный размер кучи
+     * @param i    индекс корня поддерева относительно {@code base}
+     */
+    static void siftDown(int[] arr, int base, int n, int i) {
+        int x = arr[base + i];
+        int child = 2 * i + 1;
+        while (child < n) {
+            if (child + 1 < n && arr[base + child + 1] > arr[base + child]) {
+                child++;
+            }
+            if (arr[base + child] <= x) {
+                break;
+            }
+            arr[base + i] = arr[base + child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        arr[base + i] = x;
+    }
+
+    /**
+     * Сортирует "на месте" элементы буфера от текущей позиции до предела, не копируя их
+     * в массив. Подходит для прямых буферов и для отображённых в память файлов
+     * ({@code FileChannel.map(...).asIntBuffer()}). Позиция и предел буфера не меняются.
+     *
+     * @param buf буфер для сортировки
+     * @throws java.nio.ReadOnlyBufferException если буфер только для чтения
+     */
+    public static void sort(IntBuffer buf) {
+        int base = buf.position();
+        int n = buf.limit() - base;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(buf, base, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = buf.get(base);
+            buf.put(base, buf.get(base + i));
+            buf.put(base + i, temp);
+            siftDown(buf, base, i, 0);
+        }
+    }
+
+    /**
+     * Аналог {@link #siftDown(int[], int, int, int)} для {@link IntBuffer}
+     * с абсолютной адресацией.
+     *
+     * @param buf  буфер, содержащий кучу
+     * @param base абсолютный индекс корня кучи
+     * @param n    эффективный размер кучи
+     * @param i    индекс корня поддерева относительно {@code base}
+     */
+    static void siftDown(IntBuffer buf, int base, int n, int i) {
+        int x = buf.get(base + i);
+        int child = 2 * i + 1;
+        while (child < n) {
+            int c = buf.get(base + child);
+            if (child + 1 < n) {
+                int right = buf.get(base + child + 1);
+                if (right > c) {
+                    child++;
+                    c = right;
+                }
+            }
+            if (c <= x) {
+                break;
+            }
+            buf.put(base + i, c);
+            i = child;
+            child = 2 * i + 1;
+        }
+        buf.put(base + i, x);
+    }
+
+    /**
+     * Возвращает перестановку индексов, упорядочивающую {@code keys} по не убыванию:
+     * {@code keys[perm[0]] <= keys[perm[1]] <= ...}. Сам массив ключей не меняется.
+     * Куча строится над индексами, ключи сравниваются напрямую как {@code int},
+     * без упаковки и компараторов. Порядок равных ключей не гарантируется.
+     *
+     * @param keys массив ключей
+     * @return новый массив-перестановка длины {@code keys.length}
+     */
+    public static int[] argsort(int[] keys) {
+        int n = keys.length;
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownIndirect(keys, perm, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = perm[0];
+            perm[0] = perm[i];
+            perm[i] = temp;
+            siftDownIndirect(keys, perm, i, 0);
+        }
+        return perm;
+    }
+
+    /**
+     * Сортирует {@code keys} по не убыванию, синхронно переставляя элементы
+     * {@code payload}: пара {@code (keys[i], payload[i])} остаётся парой.
+     * Дополнительной памяти не требует. Порядок равных ключей не гарантируется.
+     *
+     * @param keys    массив ключей (меняется "на месте")
+     * @param payload параллельный массив данных (меняется "на месте")
+     * @throws IllegalArgumentException если длины массивов различаются
+     */
+    public static void sortByKey(int[] keys, int[] payload) {
+        if (keys.length != payload.length) {
+            throw new IllegalArgumentException("Длины массивов различаются: "
+                    + keys.length + " и " + payload.length);
+        }
+        int n = keys.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownPaired(keys, payload, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = keys[0];
+            keys[0] = keys[i];
+            keys[i] = temp;
+            temp = payload[0];
+            payload[0] = payload[i];
+            payload[i] = temp;
+            siftDownPaired(keys, payload, i, 0);
+        }
+    }
+
+    /**
+     * Просеивание max-кучи индексов {@code perm}, упорядоченной по {@code keys[perm[j]]}.
+     *
+     * @param keys массив ключей
+     * @param perm куча индексов
+     * @param n    эффективный размер кучи
+     * @param i    индекс корня поддерева в {@code perm}
+     */
+    static void siftDownIndirect(int[] keys, int[] perm, int n, int i) {
+        int idx = perm[i];
+        int x = keys[idx];
+        int child = 2 * i + 1;
+        while (child < n) {
+            if (child + 1 < n && keys[perm[child + 1]] > keys[perm[child]]) {
+                child++;
+            }
+            if (keys[perm[child]] <= x) {
+                break;
+            }
+            perm[i] = perm[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        perm[i] = idx;
+    }
+
+    /**
+     * Просеивание max-кучи {@code keys}, повторяющее каждое перемещение в {@code payload}.
+     *
+     * @param keys    массив-куча ключей
+     * @param payload параллельный массив данных
+     * @param n       эффективный размер кучи
+     * @param i       индекс корня поддерева
+     */
+    static void siftDownPaired(int[] keys, int[] payload, int n, int i) {
+        int x = keys[i];
+        int p = payload[i];
+        int child = 2 * i + 1;
+        while (child < n) {
+            if (child + 1 < n && keys[child + 1] > keys[child]) {
+                child++;
+            }
+            if (keys[child] <= x) {
+                break;
+            }
+            keys[i] = keys[child];
+            payload[i] = payload[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        keys[i] = x;
+        payload[i] = p;
+    }
+
+    /**
+     * Сортирует массив объектов по не убыванию в порядке, заданном компаратором.
+     * Сортировка не устойчива.
+     *
+     * @param arr        массив для сортировки (меняется "на месте")
+     * @param comparator порядок элементов
+     * @param <T>        тип элементов
+     */
+    public static <T> void sort(T[] arr, Comparator<? super T> comparator) {
+        Objects.requireNonNull(comparator, "comparator");
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, comparator, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            T temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            siftDown(arr, comparator, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив объектов по не убыванию извлечённого ключа {@code long}.
+     * Ключ каждого элемента вычисляется ровно один раз и хранится в примитивном
+     * массиве, который сортируется синхронно с объектами; во время сортировки
+     * {@code keyExtractor} больше не вызывается. Сортировка не устойчива.
+     *
+     * @param arr          массив для сортировки (меняется "на месте")
+     * @param keyExtractor функция получения ключа
+     * @param <T>          тип элементов
+     */
+    public static <T> void sort(T[] arr, ToLongFunction<? super T> keyExtractor) {
+        Objects.requireNonNull(keyExtractor, "keyExtractor");
+        int n = arr.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(arr[i]);
+        }
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDownPaired(keys, arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            long tempKey = keys[0];
+            keys[0] = keys[i];
+            keys[i] = tempKey;
+            T temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            siftDownPaired(keys, arr, i, 0);
+        }
+    }
+
+    private static <T> void siftDown(T[] arr, Comparator<? super T> comparator, int n, int i) {
+        T x = arr[i];
+        int child = 2 * i + 1;
+        while (child < n) {
+            if (child + 1 < n && comparator.compare(arr[child + 1], arr[child]) > 0) {
+                child++;
+            }
+            if (comparator.compare(arr[child], x) <= 0) {
+                break;
+            }
+            arr[i] = arr[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        arr[i] = x;
+    }
+
+    private static <T> void siftDownPaired(long[] keys, T[] arr, int n, int i) {
+        long x = keys[i];
+        T item = arr[i];
+        int child = 2 * i + 1;
+        while (child < n) {
+            if (child + 1 < n && keys[child + 1] > keys[child]) {
+                child++;
+            }
+            if (keys[child] <= x) {
+                break;
+            }
+            keys[i] = keys[child];
+            arr[i] = arr[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        keys[i] = x;
+        arr[i] = item;
+    }
+
+    /**
+     * Адаптивная сортировка: один дешёвый проход собирает длину, число спусков и подъёмов
+     * и диапазон значений, после чего выбирается метод — вставки для коротких массивов,
+     * ничего для упорядоченных, разворот для упорядоченных по убыванию, подсчёт для узкого
+     * диапазона значений и heapsort в остальных случаях. Худший случай — {@code O(n log n)}.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void adaptiveSort(int[] arr) {
+        dispatch(arr);
+    }
+
+    /**
+     * Выполняет {@link #adaptiveSort(int[])} и сообщает выбранный метод.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     * @return использованный метод
+     */
+    static AdaptivePath dispatch(int[] arr) {
+        int n = arr.length;
+        if (n <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(arr, 0, n);
+            return AdaptivePath.INSERTION;
+        }
+
+        int min = arr[0];
+        int max = arr[0];
+        int descents = 0;
+        int ascents = 0;
+        for (int i = 1; i < n; i++) {
+            int prev = arr[i - 1];
+            int cur = arr[i];
+            if (cur < prev) {
+                descents++;
+            } else if (cur > prev) {
+                ascents++;
+            }
+            if (cur < min) {
+                min = cur;
+            } else if (cur > max) {
+                max = cur;
+            }
+        }
+
+        if (descents == 0) {
+            return AdaptivePath.ALREADY_SORTED;
+        }
+        if (ascents == 0) {
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                int t = arr[i];
+                arr[i] = arr[j];
+                arr[j] = t;
+            }
+            return AdaptivePath.REVERSED;
+        }
+        long range = (long) max - min + 1;
+        if (range <= n && range <= COUNTING_SORT_MAX_RANGE) {
+            countingSort(arr, min, (int) range);
+            return AdaptivePath.COUNTING;
+        }
+        sort(arr);
+        return AdaptivePath.HEAPSORT;
+    }
+
+    /**
+     * Сортировка вставками диапазона {@code [from, to)}.
+     *
+     * @param arr  массив
+     * @param from начало диапазона (включительно)
+     * @param to   конец диапазона (не включительно)
+     */
+    static void insertionSort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int x = arr[i];
+            int j = i - 1;
+            while (j >= from && arr[j] > x) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = x;
+        }
+    }
+
+    /**
+     * Сортировка подсчётом для значений из {@code [min, min + range)}.
+     *
+     * @param arr   массив
+     * @param min   наименьшее значение
+     * @param range число различных возможных значений
+     */
+    static void countingSort(int[] arr, int min, int range) {
+        int[] counts = new int[range];
+        for (int v : arr) {
+            counts[v - min]++;
+        }
+        int out = 0;
+        for (int k = 0; k < range; k++) {
+            int value = min + k;
+            for (int c = counts[k]; c > 0; c--) {
+                arr[out++] = value;
+            }
+        }
+    }
+
+    /**
+     * Параллельная сортировка с порогом {@link #DEFAULT_PARALLEL_THRESHOLD}.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     * @see #parallelSort(int[], int)
+     */
+    public static void parallelSort(int[] arr) {
+        parallelSort(arr, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Параллельная сортировка в {@link ForkJoinPool#commonPool()}.
+     *
+     * @param arr       массив для сортировки (меняется "на месте")
+     * @param threshold минимальный размер серии; массивы короче двух порогов
+     *                  сортируются в текущем потоке
+     * @throws IllegalArgumentException если {@code threshold < 1}
+     * @see #parallelSort(int[], int, ForkJoinPool)
+     */
+    public static void parallelSort(int[] arr, int threshold) {
+        parallelSort(arr, threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Параллельная сортировка: массив делится на серии по числу потоков пула,
+     * каждая серия сортируется heapsort-ом в своей задаче, затем серии сливаются
+     * k-путевым слиянием через min-кучу.
+     * Требует дополнительно {@code O(n)} памяти под буфер слияния.
+     *
+     * @param arr       массив для сортировки (меняется "на месте")
+     * @param threshold минимальный размер серии; массивы короче двух порогов
+     *                  сортируются в текущем потоке
+     * @param pool      пул, в котором сортируются серии
+     * @throws IllegalArgumentException если {@code threshold < 1}
+     */
+    public static void parallelSort(int[] arr, int threshold, ForkJoinPool pool) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Порог должен быть положительным: " + threshold);
+        }
+        int n = arr.length;
+        int runs = runCount(n, threshold, pool.getParallelism());
+        if (runs < 2) {
+            sort(arr);
+            return;
+        }
+
+        int[] bounds = new int[runs + 1];
+        for (int r = 0; r <= runs; r++) {
+            bounds[r] = (int) ((long) n * r / runs);
+        }
+        pool.invoke(new RunSortTask(arr, bounds, 0, runs));
+
+        int[] merged = new int[n];
+        mergeRuns(arr, bounds, merged);
+        System.arraycopy(merged, 0, arr, 0, n);
+    }
+
+    /**
+     * Число серий {@link #parallelSort(int[], int, ForkJoinPool)}: не больше числа потоков
+     * и не больше {@code n / threshold}, так что каждая серия не короче порога.
+     *
+     * @param n           длина массива
+     * @param threshold   минимальный размер серии
+     * @param parallelism число потоков пула
+     * @return число серий, не меньше 1
+     */
+    static int runCount(int n, int threshold, int parallelism) {
+        return Math.max(1, Math.min(parallelism, n / threshold));
+    }
+
+    /**
+     * Гибридный heapsort с сортирующей сетью на малых подзадачах. Массивы не длиннее
+     * 16 элементов сортируются сетью целиком. В длинных массивах сетью строятся нижние
+     * уровни кучи: поддеревья высоты не больше трёх (до 15 узлов), корни которых лежат
+     * на одном уровне, собираются пачками по {@link #HYBRID_BATCH} в блоки по 16,
+     * сортируются ядром {@link SortingNetwork#KERNEL} и раскладываются обратно по убыванию
+     * в порядке обхода в ширину — так каждое поддерево сразу становится кучей. Верхние
+     * уровни просеиваются как обычно. Извлечение идёт, пока в куче больше 16 элементов;
+     * оставшиеся 16 наименьших досортировываются сетью.
+     *
+     * <p>Сортировка "на месте", дополнительная память — буфер пачки постоянного размера.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void hybridSort(int[] arr) {
+        int n = arr.length;
+        int width = SortingNetwork.MAX_WIDTH;
+        if (n <= width) {
+            SortingNetwork.sortSmall(arr);
+            return;
+        }
+        // поддеревья с корнями на уровне depth - 3 доходят до последнего уровня depth
+        int depth = 31 - Integer.numberOfLeadingZeros(n);
+        int firstRoot = (1 << (depth - 3)) - 1;
+        heapifySubtrees(arr, firstRoot, firstRoot + 1);
+        for (int i = firstRoot - 1; i >= 0; i--) {
+            siftDown(arr, 0, n, i);
+        }
+
+        for (int i = n - 1; i >= width; i--) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            siftDown(arr, 0, i, 0);
+        }
+        SortingNetwork.sortBlock(arr, 0, SortingNetwork.NET16);
+    }
+
+    /**
+     * Превращает в max-кучи {@code roots} поддеревьев с корнями {@code firstRoot ..},
+     * в каждом из которых не больше 15 узлов. Узел поддерева с корнем {@code r} на
+     * позиции {@code t} обхода в ширину лежит по индексу {@code (r << k) + t}, где
+     * {@code k} — его глубина в поддереве. Отсутствующие узлы последнего уровня и
+     * шестнадцатый элемент блока дополняются {@link Integer#MIN_VALUE}, который после
+     * сортировки оказывается в начале блока и обратно не раскладывается.
+     *
+     * @param arr       массив
+     * @param firstRoot индекс первого корня
+     * @param roots     число поддеревьев
+     */
+    static void heapifySubtrees(int[] arr, int firstRoot, int roots) {
+        int n = arr.length;
+        int width = SortingNetwork.MAX_WIDTH;
+        int[] block = new int[Math.min(HYBRID_BATCH, roots) * width];
+        for (int from = 0; from < roots; from += HYBRID_BATCH) {
+            int batch = Math.min(HYBRID_BATCH, roots - from);
+            for (int b = 0; b < batch; b++) {
+                int r = firstRoot + from + b;
+                int off = b * width;
+                for (int t = 0; t < width - 1; t++) {
+                    int idx = (r << (31 - Integer.numberOfLeadingZeros(t + 1))) + t;
+                    block[off + t] = idx < n ? arr[idx] : Integer.MIN_VALUE;
+                }
+                block[off + width - 1] = Integer.MIN_VALUE;
+            }
+            SortingNetwork.KERNEL.sortBlocks(block, 0, batch, width);
+            for (int b = 0; b < batch; b++) {
+                int r = firstRoot + from + b;
+                int top = b * width + width - 1;
+                for (int t = 0; t < width - 1; t++) {
+                    int idx = (r << (31 - Integer.numberOfLeadingZeros(t + 1))) + t;
+                    if (idx >= n) {
+                        break;
+                    }
+                    arr[idx] = block[top - t];
+                }
+            }
+        }
+    }
+
+    /**
+     * Heapsort с параллельным построением кучи в {@link ForkJoinPool#commonPool()}.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     * @see #parallelBuildSort(int[], ForkJoinPool)
+     */
+    public static void parallelBuildSort(int[] arr) {
+        parallelBuildSort(arr, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Heapsort, в котором фаза построения кучи выполняется параллельно: поддеревья
+     * ниже выбранного уровня не пересекаются и строятся независимыми задачами пула,
+     * после чего верхние уровни просеиваются последовательно. Фаза извлечения
+     * остаётся последовательной. Дополнительной памяти не требует.
+     *
+     * @param arr  массив для сортировки (меняется "на месте")
+     * @param pool пул, в котором строятся поддеревья
+     */
+    public static void parallelBuildSort(int[] arr, ForkJoinPool pool) {
+        buildHeapParallel(arr, pool, PARALLEL_BUILD_MIN_SUBTREE);
+        extractAll(arr);
+    }
+
+    /**
+     * Фаза извлечения heapsort над max-кучей, занимающей весь массив. Общая для
+     * {@link #parallelBuildSort(int[], ForkJoinPool)} и последовательного эталона
+     * {@code buildHeap + extractAll} в тестах производительности.
+     *
+     * @param arr max-куча; на выходе отсортирован по не убыванию
+     */
+    static void extractAll(int[] arr) {
+        for (int i = arr.length - 1; i > 0; i--) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            siftDown(arr, 0, i, 0);
+        }
+    }
+
+    /**
+     * Последовательное построение max-кучи над всем массивом.
+     *
+     * @param arr массив
+     */
+    static void buildHeap(int[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, 0, n, i);
+        }
+    }
+
+    /**
+     * Параллельное построение max-кучи над всем массивом. Выбирается наименьший
+     * уровень {@code L}, на котором поддеревьев не меньше {@code 4 * parallelism}, либо
+     * уровень, где поддерево ещё не меньше {@code minSubtree} элементов; поддеревья
+     * уровня {@code L} строятся параллельно, узлы выше — последовательно.
+     *
+     * @param arr        массив
+     * @param pool       пул задач
+     * @param minSubtree минимальный размер поддерева отдельной задачи
+     */
+    static void buildHeapParallel(int[] arr, ForkJoinPool pool, int minSubtree) {
+        int n = arr.length;
+        int level = 0;
+        while ((1L << level) < 4L * pool.getParallelism()
+                && (n >> (level + 1)) >= minSubtree) {
+            level++;
+        }
+        if (level == 0 || pool.getParallelism() < 2) {
+            buildHeap(arr);
+            return;
+        }
+
+        int firstRoot = (1 << level) - 1;
+        int roots = (int) Math.min(1L << level, Math.max(0, n - firstRoot));
+        pool.invoke(new SubtreeBuildTask(arr, firstRoot, firstRoot + roots));
+        for (int i = Math.min(firstRoot - 1, n / 2 - 1); i >= 0; i--) {
+            siftDown(arr, 0, n, i);
+        }
+    }
+
+    /**
+     * Строит кучу в поддереве с корнем {@code root}: уровни поддерева обходятся
+     * снизу вверх, каждый внутренний узел просеивается. Затрагивает только потомков
+     * {@code root}, поэтому поддеревья разных корней можно строить одновременно.
+     *
+     * @param arr  массив-куча
+     * @param root корень поддерева
+     */
+    static void buildSubtree(int[] arr, int root) {
+        int n = arr.length;
+        int lastInternal = n / 2 - 1;
+        int depth = 0;
+        while (((long) root + 1 << (depth + 1)) - 1 <= lastInternal) {
+            depth++;
+        }
+        for (int d = depth; d >= 0; d--) {
+            long first = ((long) root + 1 << d) - 1;
+            long last = Math.min(first + (1L << d) - 1, lastInternal);
+            for (long i = last; i >= first; i--) {
+                siftDown(arr, 0, n, (int) i);
+            }
+        }
+    }
+
+    /**
+     * Задача ForkJoin: строит поддеревья с корнями {@code [lo, hi)} делением пополам.
+     */
+    private static final class SubtreeBuildTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int lo;
+        private final int hi;
+
+        SubtreeBuildTask(int[] arr, int lo, int hi) {
+            this.arr = arr;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= 1) {
+                for (int r = lo; r < hi; r++) {
+                    buildSubtree(arr, r);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SubtreeBuildTask(arr, lo, mid), new SubtreeBuildTask(arr, mid, hi));
+        }
+    }
+
+    /**
+     * k-путевое слияние отсортированных серий {@code src[bounds[r] .. bounds[r + 1])}
+     * в {@code dst}. Min-куча хранит номера серий, ключ серии — её текущий первый элемент,
+     * закэшированный в {@code heads}, чтобы сравнения не шли через двойную косвенность.
+     *
+     * @param src    массив с отсортированными сериями
+     * @param bounds границы серий, {@code bounds.length = k + 1}
+     * @param dst    приёмник длины не меньше {@code bounds[k] - bounds[0]}
+     */
+    static void mergeRuns(int[] src, int[] bounds, int[] dst) {
+        int k = bounds.length - 1;
+        int[] pos = Arrays.copyOf(bounds, k);
+        int[] heads = new int[k];
+        int[] heap = new int[k];
+        int size = 0;
+        for (int r = 0; r < k; r++) {
+            if (bounds[r] < bounds[r + 1]) {
+                heads[r] = src[bounds[r]];
+                heap[size++] = r;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDownRuns(heads, heap, size, i);
+        }
+
+        int out = 0;
+        while (size > 0) {
+            int r = heap[0];
+            dst[out++] = heads[r];
+            if (++pos[r] < bounds[r + 1]) {
+                heads[r] = src[pos[r]];
+            } else if (--size > 0) {
+                heap[0] = heap[size];
+            } else {
+                break;
+            }
+            siftDownRuns(heads, heap, size, 0);
+        }
+    }
+
+    /**
+     * Просеивание в min-куче номеров серий с ключами {@code heads[heap[i]]};
+     * общее для {@link #mergeRuns(int[], int[], int[])} и {@link ExternalHeapsort}.
+     *
+     * @param heads текущие головы серий
+     * @param heap  куча номеров серий
+     * @param n     размер кучи
+     * @param i     индекс просеиваемого элемента
+     */
+    static void siftDownRuns(int[] heads, int[] heap, int n, int i) {
+        int r = heap[i];
+        int key = heads[r];
+        int child = 2 * i + 1;
+        while (child < n) {
+            if (child + 1 < n && heads[heap[child + 1]] < heads[heap[child]]) {
+                child++;
+            }
+            if (heads[heap[child]] >= key) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        heap[i] = r;
+    }
+
+    /**
+     * Задача ForkJoin: сортирует серии с номерами {@code [lo, hi)} делением пополам.
+     */
+    private static final class RunSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int[] bounds;
+        private final int lo;
+        private final int hi;
+
+        RunSortTask(int[] arr, int[] bounds, int lo, int hi) {
+            this.arr = arr;
+            this.bounds = bounds;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                sort(arr, bounds[lo], bounds[hi]);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new RunSortTask(arr, bounds, lo, mid), new RunSortTask(arr, bounds, mid, hi));
+        }
+    }
+
+    /**
+     * Возвращает {@code k} наибольших элементов массива по убыванию.
+     * Исходный массив не меняется; время {@code O(n log k)}, память {@code O(k)}.
+     * В отличие от {@link #partialSort(int[], int)}, который упорядочивает наименьшие
+     * элементы по возрастанию, здесь отбираются наибольшие и порядок обратный.
+     *
+     * @param arr исходный массив
+     * @param k   число искомых элементов; если больше длины массива, возвращаются все
+     * @return новый массив длины {@code min(k, arr.length)}
+     * @throws IllegalArgumentException если {@code k < 0}
+     */
+    public static int[] topK(int[] arr, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k должно быть неотрицательным: " + k);
+        }
+        TopK acc = new TopK(Math.min(k, arr.length));
+        for (int v : arr) {
+            acc.accept(v);
+        }
+        return acc.toArray();
+    }
+
+    /**
+     * Возвращает {@code k} наибольших элементов потока по убыванию, не материализуя поток
+     * в массив. Параллельные потоки поддерживаются. Семантика та же, что у
+     * {@link #topK(int[], int)}.
+     *
+     * @param values поток значений
+     * @param k      число искомых элементов
+     * @return новый массив длины не больше {@code k}
+     * @throws IllegalArgumentException если {@code k < 0}
+     */
+    public static int[] topK(IntStream values, int k) {
+        return values.collect(() -> new TopK(k), TopK::accept, TopK::combine).toArray();
+    }
+
+    /**
+     * Ленивая сортировка: возвращает итератор, выдающий элементы массива по не убыванию.
+     * Min-куча над копией массива строится за {@code O(n)}, каждый вызов
+     * {@code nextInt()} извлекает один элемент за {@code O(log n)}, поэтому первые
+     * {@code k} элементов стоят {@code O(n + k log n)}. Исходный массив не меняется.
+     *
+     * @param arr исходный массив
+     * @return итератор по элементам в порядке не убывания
+     */
+    public static PrimitiveIterator.OfInt lazySorted(int[] arr) {
+        IntHeap heap = IntHeap.heapify(arr, false);
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return !heap.isEmpty();
+            }
+
+            @Override
+            public int nextInt() {
+                return heap.pop();
+            }
+        };
+    }
+
+    /**
+     * Частичная сортировка "на месте": после вызова {@code arr[0 .. k)} содержит
+     * {@code k} наименьших элементов по не убыванию, остальные элементы — в произвольном
+     * порядке. Над префиксом строится max-куча, которая обновляется элементами хвоста,
+     * меньшими её корня; время {@code O(n log k)}, без дополнительной памяти.
+     * Направление противоположно {@link #topK(int[], int)}: тот возвращает наибольшие
+     * элементы по убыванию; {@link TopK} здесь не используется.
+     *
+     * @param arr массив (меняется "на месте")
+     * @param k   длина упорядочиваемого префикса; значения больше длины массива
+     *            равносильны полной сортировке
+     * @throws IllegalArgumentException если {@code k < 0}
+     */
+    public static void partialSort(int[] arr, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k должно быть неотрицательным: " + k);
+        }
+        int n = Math.min(k, arr.length);
+        if (n == 0) {
+            return;
+        }
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, 0, n, i);
+        }
+        for (int i = n; i < arr.length; i++) {
+            if (arr[i] < arr[0]) {
+                int temp = arr[0];
+                arr[0] = arr[i];
+                arr[i] = temp;
+                siftDown(arr, 0, n, 0);
+            }
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            siftDown(arr, 0, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив {@code long[]} по не убыванию с помощью алгоритма heapsort.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void sort(long[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            long temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив {@code double[]} по не убыванию с помощью алгоритма heapsort.
+     * Порядок совпадает с {@link java.util.Arrays#sort(double[])}:
+     * {@code -0.0} предшествует {@code 0.0}, а {@code NaN} оказываются в конце.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void sort(double[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            double temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив {@code float[]} по не убыванию с помощью алгоритма heapsort.
+     * Порядок совпадает с {@link java.util.Arrays#sort(float[])}:
+     * {@code -0.0f} предшествует {@code 0.0f}, а {@code NaN} оказываются в конце.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void sort(float[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            float temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив {@code short[]} по не убыванию с помощью алгоритма heapsort.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void sort(short[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            short temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив {@code char[]} по не убыванию с помощью алгоритма heapsort.
+     * Символы сравниваются как беззнаковые числа.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void sort(char[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            char temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, i, 0);
+        }
+    }
+
+    /**
+     * Сортирует массив {@code byte[]} по не убыванию с помощью алгоритма heapsort.
+     *
+     * @param arr массив для сортировки (меняется "на месте")
+     */
+    public static void sort(byte[] arr) {
+        int n = arr.length;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            heapify(arr, n, i);
+        }
+        for (int i = n - 1; i > 0; i--) {
+            byte temp = arr[0];
+            arr[0] = arr[i];
+            arr[i] = temp;
+            heapify(arr, i, 0);
+        }
+    }
+
+    /**
+     * Итеративный аналог {@link #heapify(int[], int, int)} для {@code long[]}.
+     *
+     * @param arr массив-куча
+     * @param n   эффективный размер кучи
+     * @param i   индекс корня поддерева
+     */
+    static void heapify(long[] arr, int n, int i) {
+        while (true) {
+            int largest = i;
+            int l = 2 * i + 1;
+            int r = l + 1;
+            if (l < n && arr[l] > arr[largest]) {
+                largest = l;
+            }
+            if (r < n && arr[r] > arr[largest]) {
+                largest = r;
+            }
+            if (largest == i) {
+                return;
+            }
+            long swap = arr[i];
+            arr[i] = arr[largest];
+            arr[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Итеративный аналог {@link #heapify(int[], int, int)} для {@code double[]}.
+     *
+     * @param arr массив-куча
+     * @param n   эффективный размер кучи
+     * @param i   индекс корня поддерева
+     */
+    static void heapify(double[] arr, int n, int i) {
+        while (true) {
+            int largest = i;
+            int l = 2 * i + 1;
+            int r = l + 1;
+            if (l < n && Double.compare(arr[l], arr[largest]) > 0) {
+                largest = l;
+            }
+            if (r < n && Double.compare(arr[r], arr[largest]) > 0) {
+                largest = r;
+            }
+            if (largest == i) {
+                return;
+            }
+            double swap = arr[i];
+            arr[i] = arr[largest];
+            arr[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Итеративный аналог {@link #heapify(int[], int, int)} для {@code float[]}.
+     *
+     * @param arr массив-куча
+     * @param n   эффективный размер кучи
+     * @param i   индекс корня поддерева
+     */
+    static void heapify(float[] arr, int n, int i) {
+        while (true) {
+            int largest = i;
+            int l = 2 * i + 1;
+            int r = l + 1;
+            if (l < n && Float.compare(arr[l], arr[largest]) > 0) {
+                largest = l;
+            }
+            if (r < n && Float.compare(arr[r], arr[largest]) > 0) {
+                largest = r;
+            }
+            if (largest == i) {
+                return;
+            }
+            float swap = arr[i];
+            arr[i] = arr[largest];
+            arr[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Итеративный аналог {@link #heapify(int[], int, int)} для {@code short[]}.
+     *
+     * @param arr массив-куча
+     * @param n   эффективный размер кучи
+     * @param i   индекс корня поддерева
+     */
+    static void heapify(short[] arr, int n, int i) {
+        while (true) {
+            int largest = i;
+            int l = 2 * i + 1;
+            int r = l + 1;
+            if (l < n && arr[l] > arr[largest]) {
+                largest = l;
+            }
+            if (r < n && arr[r] > arr[largest]) {
+                largest = r;
+            }
+            if (largest == i) {
+                return;
+            }
+            short swap = arr[i];
+            arr[i] = arr[largest];
+            arr[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Итеративный аналог {@link #heapify(int[], int, int)} для {@code char[]}.
+     *
+     * @param arr массив-куча
+     * @param n   эффективный размер кучи
+     * @param i   индекс корня поддерева
+     */
+    static void heapify(char[] arr, int n, int i) {
+        while (true) {
+            int largest = i;
+            int l = 2 * i + 1;
+            int r = l + 1;
+            if (l < n && arr[l] > arr[largest]) {
+                largest = l;
+            }
+            if (r < n && arr[r] > arr[largest]) {
+                largest = r;
+            }
+            if (largest == i) {
+                return;
+            }
+            char swap = arr[i];
+            arr[i] = arr[largest];
+            arr[largest] = swap;
+            i = largest;
+        }
+    }
+
+    /**
+     * Итеративный аналог {@link #heapify(int[], int, int)} для {@code byte[]}.
+     *
+     * @param arr массив-куча
+     * @param n   эффективный размер кучи
+     * @param i   индекс корня поддерева
+     */
+    static void heapify(byte[] arr, int n, int i) {
+        while (true) {
+            int largest = i;
+            int l = 2 * i + 1;
+            int r = l + 1;
+            if (l < n && arr[l] > arr[largest]) {
+                largest = l;
+            }
+            if (r < n && arr[r] > arr[largest]) {
+                largest = r;
+            }
+            if (largest == i) {
+                return;
+            }
+            byte swap = arr[i];
+            arr[i] = arr[largest];
+            arr[largest] = swap;
+            i = largest;
+        }
+    }
+
     /**
      * Печать массива: элементы через пробел и перевод строки в конце.
      *
@@ -0,0 +1,249 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Индексированная двоичная куча: хранит неотрицательные идентификаторы с ключами {@code int}
+ * и позволяет менять ключ уже добавленного идентификатора за {@code O(log n)}.
+ * Подходит для алгоритма Дейкстры и планировщиков. Все данные лежат в растущих
+ * массивах {@code int[]}: куча идентификаторов, позиция каждого идентификатора
+ * в куче ({@code -1}, если его нет) и ключ каждого идентификатора.
+ */
+public final class IndexedIntHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final boolean max;
+    private int[] heap;
+    private int[] pos;
+    private int[] keys;
+    private int size;
+
+    private IndexedIntHeap(boolean max) {
+        this.max = max;
+        this.heap = new int[DEFAULT_CAPACITY];
+        this.pos = new int[DEFAULT_CAPACITY];
+        this.keys = new int[DEFAULT_CAPACITY];
+        Arrays.fill(pos, -1);
+    }
+
+    /**
+     * Создаёт пустую min-кучу: {@link #pop()} возвращает идентификатор с наименьшим ключом.
+     *
+     * @return новая куча
+     */
+    public static IndexedIntHeap minHeap() {
+        return new IndexedIntHeap(false);
+    }
+
+    /**
+     * Создаёт пустую max-кучу: {@link #pop()} возвращает идентификатор с наибольшим ключом.
+     *
+     * @return новая куча
+     */
+    public static IndexedIntHeap maxHeap() {
+        return new IndexedIntHeap(true);
+    }
+
+    /**
+     * Добавляет идентификатор с ключом.
+     *
+     * @param id  идентификатор из {@code [0, IntHeap.MAX_ARRAY_LENGTH)}, ещё не находящийся
+     *            в куче
+     * @param key ключ
+     * @throws IllegalArgumentException если {@code id} вне допустимого диапазона
+     *                                  или уже есть в куче
+     */
+    public void push(int id, int key) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Идентификатор должен быть неотрицательным: " + id);
+        }
+        if (id >= IntHeap.MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Идентификатор должен быть меньше " + IntHeap.MAX_ARRAY_LENGTH
+                            + ": " + id);
+        }
+        ensureIdCapacity(id + 1);
+        if (pos[id] >= 0) {
+            throw new IllegalArgumentException("Идентификатор уже в куче: " + id);
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, IntHeap.grow(heap.length, size + 1));
+        }
+        keys[id] = key;
+        heap[size] = id;
+        pos[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Удаляет и возвращает идентификатор на вершине кучи.
+     *
+     * @return идентификатор с наименьшим (min-куча) или наибольшим (max-куча) ключом
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int pop() {
+        int top = peek();
+        int last = heap[--size];
+        pos[top] = -1;
+        if (size > 0) {
+            heap[0] = last;
+            pos[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Возвращает идентификатор на вершине кучи, не удаляя его.
+     *
+     * @return идентификатор с наименьшим (min-куча) или наибольшим (max-куча) ключом
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Возвращает ключ на вершине кучи.
+     *
+     * @return ключ вершины
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int peekKey() {
+        return keys[peek()];
+    }
+
+    /**
+     * Уменьшает ключ идентификатора.
+     *
+     * @param id     идентификатор из кучи
+     * @param newKey новый ключ, не больше текущего
+     * @throws IllegalArgumentException если идентификатора нет в куче или ключ больше текущего
+     */
+    public void decreaseKey(int id, int newKey) {
+        if (newKey > keyOf(id)) {
+            throw new IllegalArgumentException("Новый ключ больше текущего: " + newKey);
+        }
+        changeKey(id, newKey);
+    }
+
+    /**
+     * Увеличивает ключ идентификатора.
+     *
+     * @param id     идентификатор из кучи
+     * @param newKey новый ключ, не меньше текущего
+     * @throws IllegalArgumentException если идентификатора нет в куче или ключ меньше текущего
+     */
+    public void increaseKey(int id, int newKey) {
+        if (newKey < keyOf(id)) {
+            throw new IllegalArgumentException("Новый ключ меньше текущего: " + newKey);
+        }
+        changeKey(id, newKey);
+    }
+
+    /**
+     * Возвращает текущий ключ идентификатора.
+     *
+     * @param id идентификатор из кучи
+     * @return ключ
+     * @throws IllegalArgumentException если идентификатора нет в куче
+     */
+    public int keyOf(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("Идентификатора нет в куче: " + id);
+        }
+        return keys[id];
+    }
+
+    /**
+     * Проверяет, находится ли идентификатор в куче.
+     *
+     * @param id идентификатор
+     * @return {@code true}, если идентификатор добавлен и ещё не извлечён
+     */
+    public boolean contains(int id) {
+        return id >= 0 && id < pos.length && pos[id] >= 0;
+    }
+
+    /**
+     * Количество идентификаторов в куче.
+     *
+     * @return размер кучи
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуста ли куча.
+     *
+     * @return {@code true}, если элементов нет
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void changeKey(int id, int newKey) {
+        int old = keys[id];
+        keys[id] = newKey;
+        if (above(newKey, old)) {
+            siftUp(pos[id]);
+        } else {
+            siftDown(pos[id]);
+        }
+    }
+
+    private boolean above(int a, int b) {
+        return max ? a > b : a < b;
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        int key = keys[id];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            int parentId = heap[parent];
+            if (!above(key, keys[parentId])) {
+                break;
+            }
+            heap[i] = parentId;
+            pos[parentId] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        int key = keys[id];
+        int child = 2 * i + 1;
+        while (child < size) {
+            if (child + 1 < size && above(keys[heap[child + 1]], keys[heap[child]])) {
+                child++;
+            }
+            int childId = heap[child];
+            if (!above(keys[childId], key)) {
+                break;
+            }
+            heap[i] = childId;
+            pos[childId] = i;
+            i = child;
+            child = 2 * i + 1;
+        }
+        heap[i] = id;
+        pos[id] = i;
+    }
+
+    private void ensureIdCapacity(int required) {
+        if (required > pos.length) {
+            int old = pos.length;
+            int capacity = IntHeap.grow(old, required);
+            pos = Arrays.copyOf(pos, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            Arrays.fill(pos, old, capacity, -1);
+        }
+    }
+}
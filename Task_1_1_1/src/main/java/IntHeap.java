@@ -0,0 +1,196 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Двоичная куча примитивных {@code int} (min- или max-) без упаковки в {@link Integer}.
+ * Элементы хранятся в растущем массиве {@code int[]}; вставка и извлечение не создают
+ * объектов, пока не требуется расширение массива.
+ */
+public final class IntHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Наибольшая длина массива, которую гарантированно выделяет JVM. */
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final boolean max;
+    private int[] heap;
+    private int size;
+
+    private IntHeap(boolean max, int capacity) {
+        this.max = max;
+        this.heap = new int[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Создаёт пустую min-кучу: {@link #peek()} возвращает наименьший элемент.
+     *
+     * @return новая куча
+     */
+    public static IntHeap minHeap() {
+        return new IntHeap(false, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создаёт пустую max-кучу: {@link #peek()} возвращает наибольший элемент.
+     *
+     * @return новая куча
+     */
+    public static IntHeap maxHeap() {
+        return new IntHeap(true, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создаёт кучу из готового набора значений за {@code O(n)} (построение по Флойду).
+     *
+     * @param values исходные значения (массив не изменяется)
+     * @param max    {@code true} для max-кучи, {@code false} для min-кучи
+     * @return новая куча
+     */
+    public static IntHeap heapify(int[] values, boolean max) {
+        IntHeap h = new IntHeap(max, values.length);
+        h.addAll(values);
+        return h;
+    }
+
+    /**
+     * Добавляет элемент за {@code O(log n)}.
+     *
+     * @param value значение
+     * @throws IllegalStateException если куча уже содержит {@link #MAX_ARRAY_LENGTH} элементов
+     */
+    public void push(int value) {
+        ensureCapacity(size + 1);
+        heap[size] = value;
+        siftUp(size++);
+    }
+
+    /**
+     * Добавляет все значения и заново строит кучу за {@code O(n + m)}.
+     *
+     * @param values добавляемые значения
+     * @throws IllegalStateException если элементов станет больше {@link #MAX_ARRAY_LENGTH}
+     */
+    public void addAll(int... values) {
+        ensureCapacity((long) size + values.length);
+        System.arraycopy(values, 0, heap, size, values.length);
+        size += values.length;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Возвращает вершину кучи, не удаляя её.
+     *
+     * @return наименьший (min-куча) или наибольший (max-куча) элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Куча пуста");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Удаляет и возвращает вершину кучи за {@code O(log n)}.
+     *
+     * @return наименьший (min-куча) или наибольший (max-куча) элемент
+     * @throws NoSuchElementException если куча пуста
+     */
+    public int pop() {
+        int top = peek();
+        heap[0] = heap[--size];
+        if (size > 0) {
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /**
+     * Количество элементов в куче.
+     *
+     * @return размер кучи
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуста ли куча.
+     *
+     * @return {@code true}, если элементов нет
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Удаляет все элементы, сохраняя выделенную память.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Проверяет, должен ли {@code a} стоять выше {@code b}.
+     */
+    private boolean above(int a, int b) {
+        return max ? a > b : a < b;
+    }
+
+    private void siftUp(int i) {
+        int x = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!above(x, heap[parent])) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = x;
+    }
+
+    private void siftDown(int i) {
+        int x = heap[i];
+        int child = 2 * i + 1;
+        while (child < size) {
+            if (child + 1 < size && above(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!above(heap[child], x)) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        heap[i] = x;
+    }
+
+    private void ensureCapacity(long required) {
+        if (required > heap.length) {
+            heap = Arrays.copyOf(heap, grow(heap.length, required));
+        }
+    }
+
+    /**
+     * Новая длина массива: в полтора раза больше прежней, но не меньше {@code required}
+     * и не больше {@link #MAX_ARRAY_LENGTH}; вычисляется без переполнения {@code int}.
+     * Общая для {@link IntHeap} и {@link IndexedIntHeap}.
+     *
+     * @param old      текущая длина
+     * @param required требуемая длина
+     * @return новая длина
+     * @throws IllegalStateException если {@code required > MAX_ARRAY_LENGTH}
+     */
+    static int grow(int old, long required) {
+        if (required > MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException(
+                    "Требуемая длина массива больше " + MAX_ARRAY_LENGTH + ": " + required);
+        }
+        long grown = old + (long) (old >> 1);
+        return (int) Math.min(MAX_ARRAY_LENGTH, Math.max(required, grown));
+    }
+}
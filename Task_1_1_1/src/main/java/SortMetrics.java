@@ -0,0 +1,31 @@
+/**
+ * Приёмник метрик инструментированной сортировки
+ * {@link Heapsort#sort(int[], Heapsort.Variant, SortMetrics)}.
+ * Счётчики накапливаются в локальных полях сортировки и передаются слушателю
+ * один раз на фазу, поэтому вызовы слушателя не попадают во внутренние циклы.
+ */
+@FunctionalInterface
+public interface SortMetrics {
+    /**
+     * Фаза heapsort.
+     */
+    enum Phase {
+        /** Построение кучи. */
+        BUILD,
+        /** Поочерёдное извлечение максимума. */
+        EXTRACT
+    }
+
+    /**
+     * Вызывается по завершении фазы.
+     *
+     * @param phase        завершённая фаза
+     * @param nanos        длительность фазы, нс
+     * @param comparisons  число сравнений элементов
+     * @param swaps        число обменов; сдвиг элемента в «дырку» при просеивании
+     *                     считается одним обменом
+     * @param siftDepths   гистограмма глубин просеивания: {@code siftDepths[d]} —
+     *                     сколько просеиваний опустились на {@code d} уровней
+     */
+    void onPhase(Phase phase, long nanos, long comparisons, long swaps, long[] siftDepths);
+}
@@ -0,0 +1,166 @@
+import java.util.Arrays;
+
+/**
+ * Сортирующие сети Бэтчера (odd-even merge) для блоков из 8 и 16 элементов
+ * и ядра, применяющие их к последовательности соседних блоков массива.
+ * По умолчанию используется скалярное ядро. Векторное {@code VectorSortKernel} из набора
+ * исходников {@code vector} включается явно: {@code -Dheapsort.networkKernel=vector}
+ * вместе с {@code --add-modules jdk.incubator.vector}. Оно выигрывает только после
+ * JIT-компиляции и только там, где его выбрал бенчмарк {@code hybrid} из JMH-набора;
+ * в интерпретаторе и C1 Vector API медленнее скалярной сети.
+ */
+final class SortingNetwork {
+    /** Наибольшая ширина блока, для которой построена сеть. */
+    static final int MAX_WIDTH = 16;
+
+    /** Компараторы сети на 8 элементов: пары индексов {@code (p, q)}, {@code p < q}. */
+    static final int[] NET8 = batcher(8);
+
+    /** Компараторы сети на 16 элементов. */
+    static final int[] NET16 = batcher(16);
+
+    /**
+     * Ядро, сортирующее подряд идущие блоки одинаковой ширины.
+     */
+    interface Kernel {
+        /**
+         * Сортирует каждый из {@code blocks} блоков {@code a[from + b*width .. +width)}.
+         *
+         * @param a      массив
+         * @param from   начало первого блока
+         * @param blocks число блоков
+         * @param width  ширина блока: 8 или 16
+         */
+        void sortBlocks(int[] a, int from, int blocks, int width);
+
+        /**
+         * Название ядра для отчётов.
+         *
+         * @return название
+         */
+        String name();
+    }
+
+    /** Скалярное ядро: сеть компараторов на обычных сравнениях. */
+    static final Kernel SCALAR = new Kernel() {
+        @Override
+        public void sortBlocks(int[] a, int from, int blocks, int width) {
+            int[] net = network(width);
+            for (int b = 0; b < blocks; b++) {
+                sortBlock(a, from + b * width, net);
+            }
+        }
+
+        @Override
+        public String name() {
+            return "scalar";
+        }
+    };
+
+    /** Системное свойство выбора ядра: {@code scalar} (по умолчанию) или {@code vector}. */
+    static final String KERNEL_PROPERTY = "heapsort.networkKernel";
+
+    /** Ядро, выбранное свойством {@link #KERNEL_PROPERTY}. */
+    static final Kernel KERNEL = loadKernel(System.getProperty(KERNEL_PROPERTY, "scalar"));
+
+    private SortingNetwork() {
+    }
+
+    /**
+     * Возвращает сеть для ширины блока.
+     *
+     * @param width 8 или 16
+     * @return компараторы сети
+     * @throws IllegalArgumentException для другой ширины
+     */
+    static int[] network(int width) {
+        if (width == 8) {
+            return NET8;
+        }
+        if (width == 16) {
+            return NET16;
+        }
+        throw new IllegalArgumentException("Ширина блока должна быть 8 или 16: " + width);
+    }
+
+    /**
+     * Сортирует один блок скалярной сетью.
+     *
+     * @param a   массив
+     * @param off начало блока
+     * @param net компараторы сети
+     */
+    static void sortBlock(int[] a, int off, int[] net) {
+        for (int c = 0; c < net.length; c += 2) {
+            int p = off + net[c];
+            int q = off + net[c + 1];
+            int x = a[p];
+            int y = a[q];
+            a[p] = Math.min(x, y);
+            a[q] = Math.max(x, y);
+        }
+    }
+
+    /**
+     * Сортирует массив длины не больше {@link #MAX_WIDTH}: элементы дополняются
+     * до ширины сети значением {@link Integer#MAX_VALUE}, которое уходит в хвост.
+     *
+     * @param a массив длины не больше 16
+     */
+    static void sortSmall(int[] a) {
+        int n = a.length;
+        int width = n <= 8 ? 8 : MAX_WIDTH;
+        int[] block = new int[width];
+        System.arraycopy(a, 0, block, 0, n);
+        Arrays.fill(block, n, width, Integer.MAX_VALUE);
+        sortBlock(block, 0, network(width));
+        System.arraycopy(block, 0, a, 0, n);
+    }
+
+    /**
+     * Строит сеть Бэтчера odd-even merge sort для {@code n}, равного степени двойки.
+     */
+    private static int[] batcher(int n) {
+        int[] pairs = new int[n * n];
+        int count = 0;
+        for (int p = 1; p < n; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j <= n - 1 - k; j += 2 * k) {
+                    for (int i = 0; i <= Math.min(k - 1, n - j - k - 1); i++) {
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            pairs[count++] = i + j;
+                            pairs[count++] = i + j + k;
+                        }
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, count);
+    }
+
+    /**
+     * Ядро по названию; векторное — только если модуль загружен, иначе скалярное.
+     *
+     * @param name {@code scalar} или {@code vector}
+     * @return ядро
+     * @throws IllegalArgumentException для неизвестного названия
+     */
+    static Kernel loadKernel(String name) {
+        if (name.equals("scalar")) {
+            return SCALAR;
+        }
+        if (!name.equals("vector")) {
+            throw new IllegalArgumentException(
+                    "Ядро сортирующей сети должно быть scalar или vector: " + name);
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return SCALAR;
+        }
+        try {
+            return (Kernel) Class.forName("VectorSortKernel")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+}
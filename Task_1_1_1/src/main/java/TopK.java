@@ -0,0 +1,109 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Накопитель k наибольших значений потока {@code int} на ограниченной min-куче размера k.
+ * Каждое значение обрабатывается за {@code O(log k)}, дополнительная память — {@code O(k)}.
+ * Пригоден как аккумулятор для {@link java.util.stream.IntStream#collect}, включая
+ * параллельные потоки: частичные результаты объединяются методом {@link #combine(TopK)}.
+ */
+public final class TopK implements IntConsumer {
+    private final int[] heap;
+    private int size;
+
+    /**
+     * Создаёт пустой накопитель.
+     *
+     * @param k сколько наибольших значений хранить
+     * @throws IllegalArgumentException если {@code k < 0}
+     */
+    public TopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k должно быть неотрицательным: " + k);
+        }
+        this.heap = new int[k];
+    }
+
+    /**
+     * Учитывает очередное значение. Если куча заполнена, значение вытесняет
+     * текущий минимум только когда больше него.
+     *
+     * @param value очередное значение
+     */
+    @Override
+    public void accept(int value) {
+        if (size < heap.length) {
+            heap[size] = value;
+            siftUp(size++);
+        } else if (size > 0 && value > heap[0]) {
+            heap[0] = value;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Добавляет в этот накопитель значения другого накопителя.
+     *
+     * @param other накопитель с той же или меньшей ёмкостью
+     */
+    public void combine(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            accept(other.heap[i]);
+        }
+    }
+
+    /**
+     * Количество накопленных значений: {@code min(k, число принятых значений)}.
+     *
+     * @return размер кучи
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает накопленные значения по убыванию. Состояние накопителя не меняется.
+     *
+     * @return новый массив длины {@link #size()}
+     */
+    public int[] toArray() {
+        int[] result = Arrays.copyOf(heap, size);
+        Heapsort.sort(result);
+        for (int i = 0, j = size - 1; i < j; i++, j--) {
+            int t = result[i];
+            result[i] = result[j];
+            result[j] = t;
+        }
+        return result;
+    }
+
+    private void siftUp(int i) {
+        int x = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heap[parent] <= x) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = x;
+    }
+
+    private void siftDown(int i) {
+        int x = heap[i];
+        int child = 2 * i + 1;
+        while (child < size) {
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= x) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+            child = 2 * i + 1;
+        }
+        heap[i] = x;
+    }
+}
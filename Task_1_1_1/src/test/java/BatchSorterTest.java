@@ -0,0 +1,155 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Юнит-тесты для {@link BatchSorter}.
+ */
+public class BatchSorterTest {
+    @TempDir
+    Path dir;
+
+    private static InputStream text(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void sortsEveryLineAndKeepsOrder() throws IOException {
+        Random rnd = new Random(31);
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int line = 0; line < 500; line++) {
+            int[] a = rnd.ints(rnd.nextInt(3000) + 1, -1000, 1000).toArray();
+            input.append(Arrays.stream(a).mapToObj(Integer::toString)
+                    .collect(Collectors.joining(" "))).append('\n');
+            Arrays.sort(a);
+            expected.append(Arrays.stream(a).mapToObj(Integer::toString)
+                    .collect(Collectors.joining(" "))).append('\n');
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BatchSorter.Result result = new BatchSorter(3).sort(text(input.toString()), out);
+        assertEquals(expected.toString(), out.toString(StandardCharsets.US_ASCII));
+        assertEquals(500, result.arrays());
+        assertTrue(result.arraysPerSecond() > 0);
+    }
+
+    @Test
+    void blankLinesAndExtraSpaces() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BatchSorter(1).sort(text("  3   1 2 \n\n-5\t7\n"), out);
+        assertEquals("1 2 3\n\n-5 7\n", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void invalidNumberReported() {
+        BatchSorter sorter = new BatchSorter(2);
+        IOException e = assertThrows(IOException.class,
+                () -> sorter.sort(text("1 2\n3 x\n"), new ByteArrayOutputStream()));
+        assertTrue(e.getMessage().contains("Строка 2"));
+    }
+
+    @Test
+    void failedBatchReturnsEveryBufferToPool() throws IOException {
+        BatchSorter sorter = new BatchSorter(2);
+        int pooled = sorter.pooledBuffers();
+        StringBuilder input = new StringBuilder();
+        for (int line = 0; line < 40; line++) {
+            input.append(line == 3 ? "1 x" : "3 2 1").append('\n');
+        }
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThrows(IOException.class,
+                    () -> sorter.sort(text(input.toString()), new ByteArrayOutputStream()));
+            assertEquals(pooled, sorter.pooledBuffers());
+        }
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("диск переполнен");
+            }
+        };
+        assertThrows(IOException.class, () -> sorter.sort(text("2 1\n".repeat(20_000)), broken));
+        assertEquals(pooled, sorter.pooledBuffers());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        sorter.sort(text("2 1\n3\n"), out);
+        assertEquals("1 2\n3\n", out.toString(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void formatsExtremeValuesWithoutStrings() {
+        byte[] dst = new byte[64];
+        int pos = 0;
+        for (int v : new int[]{0, 7, -7, 1_000_000, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            pos = BatchSorter.formatInt(v, dst, pos);
+            dst[pos++] = ' ';
+        }
+        assertEquals("0 7 -7 1000000 2147483647 -2147483648 ",
+                new String(dst, 0, pos, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void pooledBuffersReusedAcrossLongLines() throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int i = 5000; i > 0; i--) {
+            line.append(Integer.MIN_VALUE + i).append(' ');
+        }
+        String input = line + "\n" + line + "\n2 1\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BatchSorter(1).sort(text(input), out);
+        String[] lines = out.toString(StandardCharsets.US_ASCII).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(lines[0], lines[1]);
+        assertTrue(lines[0].startsWith("-2147483647 -2147483646 "));
+        assertEquals("1 2", lines[2]);
+    }
+
+    @Test
+    void rejectsNonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchSorter(0));
+    }
+
+    @Test
+    void executorRunsTasks() throws Exception {
+        ExecutorService executor = BatchSorter.newExecutor();
+        try {
+            assertEquals(42, executor.submit(() -> 42).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void mainReadsFileAndPrintsToStdout() throws IOException {
+        Path in = Files.writeString(dir.resolve("in.txt"), "9 8 7\n");
+        PrintStream originalOut = System.out;
+        PrintStream originalErr = System.err;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(err, true, StandardCharsets.UTF_8));
+        try {
+            BatchSorter.main(new String[]{in.toString()});
+        } finally {
+            System.setOut(originalOut);
+            System.setErr(originalErr);
+        }
+        assertEquals("7 8 9\n", out.toString(StandardCharsets.UTF_8));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("массивов/с"));
+    }
+}
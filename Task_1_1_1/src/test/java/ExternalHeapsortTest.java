@@ -0,0 +1,87 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Юнит-тесты для {@link ExternalHeapsort}.
+ */
+public class ExternalHeapsortTest {
+    @TempDir
+    Path dir;
+
+    private static void writeInts(Path file, int[] values) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * Integer.BYTES);
+        buf.asIntBuffer().put(values);
+        Files.write(file, buf.array());
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(file));
+        int[] values = new int[buf.remaining() / Integer.BYTES];
+        buf.asIntBuffer().get(values);
+        return values;
+    }
+
+    private int[] sortThroughFiles(int[] data, long budget) throws IOException {
+        Path in = dir.resolve("in.bin");
+        Path out = dir.resolve("out.bin");
+        Path tmp = Files.createDirectories(dir.resolve("tmp"));
+        writeInts(in, data);
+        new ExternalHeapsort(budget, tmp).sort(in, out);
+        try (Stream<Path> left = Files.list(tmp)) {
+            assertEquals(0, left.count(), "временные файлы должны быть удалены");
+        }
+        return readInts(out);
+    }
+
+    @Test
+    void singleRunFitsInMemory() throws IOException {
+        int[] data = new Random(15).ints(1000).toArray();
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, sortThroughFiles(data, 1 << 20));
+    }
+
+    @Test
+    void multiPassMergeWithTinyBudget() throws IOException {
+        int[] data = new Random(16).ints(50_000).toArray();
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        // 16 КиБ: серии по 4096 int и слияние не более чем по 3 серии за проход
+        assertArrayEquals(expected, sortThroughFiles(data, 16 * 1024));
+    }
+
+    @Test
+    void emptyFile() throws IOException {
+        assertEquals(0, sortThroughFiles(new int[0], 1 << 16).length);
+    }
+
+    @Test
+    void truncatedFileRejected() throws IOException {
+        Path in = dir.resolve("bad.bin");
+        Files.write(in, new byte[]{1, 2, 3, 4, 5});
+        ExternalHeapsort sorter = new ExternalHeapsort(1 << 16, dir);
+        assertThrows(IOException.class, () -> sorter.sort(in, dir.resolve("out.bin")));
+    }
+
+    @Test
+    void tooSmallBudgetRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalHeapsort(1024));
+    }
+
+    @Test
+    void fanInFollowsBudget() {
+        assertEquals(3, new ExternalHeapsort(16 * 1024).maxFanIn());
+        assertEquals(1024, new ExternalHeapsort(1L << 40).maxFanIn());
+    }
+}
@@ -0,0 +1,74 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Юнит-тесты для сортировки {@link IntBuffer} в {@link Heapsort}.
+ */
+public class HeapsortBufferTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void sortsMappedFileInPlace() throws IOException {
+        int[] data = new Random(17).ints(10_000).toArray();
+        ByteBuffer bytes = ByteBuffer.allocate(data.length * Integer.BYTES);
+        bytes.asIntBuffer().put(data);
+        Path file = dir.resolve("ints.bin");
+        Files.write(file, bytes.array());
+
+        try (FileChannel ch = FileChannel.open(file,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = ch.map(FileChannel.MapMode.READ_WRITE, 0, ch.size());
+            Heapsort.sort(mapped.asIntBuffer());
+            mapped.force();
+        }
+
+        int[] result = new int[data.length];
+        ByteBuffer.wrap(Files.readAllBytes(file)).asIntBuffer().get(result);
+        Arrays.sort(data);
+        assertArrayEquals(data, result);
+    }
+
+    @Test
+    void sortsOnlyBetweenPositionAndLimit() {
+        IntBuffer buf = IntBuffer.wrap(new int[]{9, 5, 3, 8, 1, 0});
+        buf.position(1).limit(5);
+        Heapsort.sort(buf);
+        assertEquals(1, buf.position());
+        assertEquals(5, buf.limit());
+        assertArrayEquals(new int[]{9, 1, 3, 5, 8, 0}, buf.array());
+    }
+
+    @Test
+    void sortsDirectBuffer() {
+        int[] data = new Random(18).ints(777).toArray();
+        IntBuffer buf = ByteBuffer.allocateDirect(data.length * Integer.BYTES).asIntBuffer();
+        buf.put(data).flip();
+        Heapsort.sort(buf);
+        int[] result = new int[data.length];
+        buf.get(result);
+        Arrays.sort(data);
+        assertArrayEquals(data, result);
+    }
+
+    @Test
+    void readOnlyBufferRejected() {
+        IntBuffer buf = IntBuffer.wrap(new int[]{2, 1}).asReadOnlyBuffer();
+        assertThrows(ReadOnlyBufferException.class, () -> Heapsort.sort(buf));
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -79,4 +80,188 @@ public class HeapsortPerformanceTest {
         Files.writeString(outDir.resolve("heapsort_times.csv"),
                 String.join(System.lineSeparator(), rows));
     }
-}
\ No newline at end of file
+
+    /**
+     * Сравнение классического и восходящего (bottom-up) просеивания:
+     * число сравнений элементов и медианное время на одних и тех же входах.
+     * Результат: build/reports/perf/heapsort_comparisons.csv.
+     */
+    @Tag("perf")
+    @Test
+    void compareVariantsAndExportCsv() throws IOException {
+        int[] sizes = new int[] { 1000, 10000, 100000, 1000000 };
+        int warmupRuns = 3;
+        int measureRuns = 5;
+
+        List<String> rows = new ArrayList<>();
+        rows.add("N,classic_cmp,bottom_up_cmp,cmp_ratio,classic_median_ms,bottom_up_median_ms");
+
+        for (int n : sizes) {
+            int[] base = ThreadLocalRandom.current().ints(n).toArray();
+
+            long classicCmp = Heapsort.countComparisons(
+                    Arrays.copyOf(base, n), Heapsort.Variant.CLASSIC);
+            long bottomUpCmp = Heapsort.countComparisons(
+                    Arrays.copyOf(base, n), Heapsort.Variant.BOTTOM_UP);
+
+            long classicNs = medianNs(base, Heapsort.Variant.CLASSIC, warmupRuns, measureRuns);
+            long bottomUpNs = medianNs(base, Heapsort.Variant.BOTTOM_UP, warmupRuns, measureRuns);
+
+            rows.add(String.format("%d,%d,%d,%.3f,%.3f,%.3f",
+                    n, classicCmp, bottomUpCmp, bottomUpCmp / (double) classicCmp,
+                    classicNs / 1e6, bottomUpNs / 1e6));
+        }
+
+        for (String row : rows) {
+            System.out.println(row);
+        }
+
+        Path outDir = Path.of("build", "reports", "perf");
+        Files.createDirectories(outDir);
+        Files.writeString(outDir.resolve("heapsort_comparisons.csv"),
+                String.join(System.lineSeparator(), rows));
+    }
+
+    private static long medianNs(int[] base, Heapsort.Variant variant,
+                                 int warmupRuns, int measureRuns) {
+        for (int w = 0; w < warmupRuns; w++) {
+            Heapsort.sort(Arrays.copyOf(base, base.length), variant);
+        }
+        long[] samples = new long[measureRuns];
+        for (int r = 0; r < measureRuns; r++) {
+            int[] a = Arrays.copyOf(base, base.length);
+            long t0 = System.nanoTime();
+            Heapsort.sort(a, variant);
+            samples[r] = System.nanoTime() - t0;
+        }
+        Arrays.sort(samples);
+        return samples[measureRuns / 2];
+    }
+
+    /**
+     * Масштабирование d-арных вариантов (d = 2, 4, 8) для выбора арности
+     * по размеру массива. Результат: build/reports/perf/heapsort_arity.csv.
+     */
+    @Tag("perf")
+    @Test
+    void measureArityScalingAndExportCsv() throws IOException {
+        int[] sizes = new int[] { 10000, 100000, 1000000, 4000000, 16000000 };
+        int[] arities = new int[] { 2, 4, 8 };
+        int warmupRuns = 2;
+        int measureRuns = 3;
+
+        List<String> rows = new ArrayList<>();
+        rows.add("N,d2_median_ms,d4_median_ms,d8_median_ms,best_arity");
+
+        for (int n : sizes) {
+            int[] base = ThreadLocalRandom.current().ints(n).toArray();
+            StringBuilder line = new StringBuilder().append(n);
+            long bestNs = Long.MAX_VALUE;
+            int bestArity = arities[0];
+            for (int d : arities) {
+                for (int w = 0; w < warmupRuns; w++) {
+                    Heapsort.sort(Arrays.copyOf(base, n), d);
+                }
+                long[] samples = new long[measureRuns];
+                for (int r = 0; r < measureRuns; r++) {
+                    int[] a = Arrays.copyOf(base, n);
+                    long t0 = System.nanoTime();
+                    Heapsort.sort(a, d);
+                    samples[r] = System.nanoTime() - t0;
+                }
+                Arrays.sort(samples);
+                long median = samples[measureRuns / 2];
+                if (median < bestNs) {
+                    bestNs = median;
+                    bestArity = d;
+                }
+                line.append(String.format(",%.3f", median / 1e6));
+            }
+            rows.add(line.append(',').append(bestArity).toString());
+        }
+
+        for (String row : rows) {
+            System.out.println(row);
+        }
+
+        Path outDir = Path.of("build", "reports", "perf");
+        Files.createDirectories(outDir);
+        Files.writeString(outDir.resolve("heapsort_arity.csv"),
+                String.join(System.lineSeparator(), rows));
+    }
+
+    /**
+     * Ускорение параллельного построения кучи в общем пуле ForkJoin: отдельно фаза
+     * построения ({@code buildHeap} против {@code buildHeapParallel}) и сортировка
+     * целиком. Для сортировки эталон — то же последовательное построение и та же фаза
+     * извлечения {@code extractAll}, что и в {@link Heapsort#parallelBuildSort(int[])},
+     * так что разница в столбце {@code sort_speedup} — только от параллельного
+     * построения. Перед замерами каждый вариант прогревается. Размеры, которым
+     * не хватает кучи JVM, пропускаются (для 100M нужно около 1 ГБ: {@code -Xmx2g}).
+     * Результат: build/reports/perf/heapsort_parallel_build.csv.
+     */
+    @Tag("perf")
+    @Test
+    void measureParallelBuildSpeedupAndExportCsv() throws IOException {
+        int[] sizes = new int[] { 1_000_000, 10_000_000, 100_000_000 };
+        int warmupRuns = 2;
+        int measureRuns = 3;
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        List<String> rows = new ArrayList<>();
+        rows.add("N,threads,build_ms,parallel_build_ms,build_speedup,"
+                + "sort_ms,parallel_build_sort_ms,sort_speedup");
+
+        for (int n : sizes) {
+            if (Runtime.getRuntime().maxMemory() < 3L * n * Integer.BYTES) {
+                System.out.println("Пропуск N=" + n + ": недостаточно памяти");
+                continue;
+            }
+            int[] base = ThreadLocalRandom.current().ints(n).toArray();
+            int[] a = new int[n];
+            Runnable build = () -> Heapsort.buildHeap(a);
+            Runnable parallelBuild = () ->
+                    Heapsort.buildHeapParallel(a, pool, Heapsort.PARALLEL_BUILD_MIN_SUBTREE);
+            Runnable sort = () -> {
+                Heapsort.buildHeap(a);
+                Heapsort.extractAll(a);
+            };
+            Runnable parallelSort = () -> Heapsort.parallelBuildSort(a, pool);
+
+            long[] medians = new long[4];
+            Runnable[] variants = { build, parallelBuild, sort, parallelSort };
+            for (int v = 0; v < variants.length; v++) {
+                for (int w = 0; w < warmupRuns; w++) {
+                    System.arraycopy(base, 0, a, 0, n);
+                    variants[v].run();
+                }
+                long[] samples = new long[measureRuns];
+                for (int r = 0; r < measureRuns; r++) {
+                    System.arraycopy(base, 0, a, 0, n);
+                    long t0 = System.nanoTime();
+                    variants[v].run();
+                    samples[r] = System.nanoTime() - t0;
+                }
+                medians[v] = median(samples);
+            }
+            rows.add(String.format("%d,%d,%.3f,%.3f,%.2f,%.3f,%.3f,%.2f",
+                    n, pool.getParallelism(),
+                    medians[0] / 1e6, medians[1] / 1e6, medians[0] / (double) medians[1],
+                    medians[2] / 1e6, medians[3] / 1e6, medians[2] / (double) medians[3]));
+        }
+
+        for (String row : rows) {
+            System.out.println(row);
+        }
+
+        Path outDir = Path.of("build", "reports", "perf");
+        Files.createDirectories(outDir);
+        Files.writeString(outDir.resolve("heapsort_parallel_build.csv"),
+                String.join(System.lineSeparator(), rows));
+    }
+
+    private static long median(long[] samples) {
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
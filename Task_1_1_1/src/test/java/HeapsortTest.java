@@ -1,8 +1,17 @@
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 
@@ -115,4 +124,547 @@ public class HeapsortTest {
         assertArrayEquals(new int[]{5, 2, 9, 0, 0, 1, 8}, a);
         assertEquals(5, a[0]);
     }
-}
\ No newline at end of file
+
+    @Test
+    void longOverloadMatchesArraysSort() {
+        Random rnd = new Random(1);
+        long[] a = rnd.longs(1000).toArray();
+        a[0] = Long.MIN_VALUE;
+        a[1] = Long.MAX_VALUE;
+        long[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void doubleOverloadMatchesArraysSort() {
+        Random rnd = new Random(2);
+        double[] a = rnd.doubles(1000, -1e6, 1e6).toArray();
+        a[0] = Double.NaN;
+        a[1] = -0.0;
+        a[2] = 0.0;
+        a[3] = Double.NEGATIVE_INFINITY;
+        a[4] = Double.POSITIVE_INFINITY;
+        a[5] = Double.NaN;
+        a[6] = 0.0;
+        a[7] = -0.0;
+        double[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void doubleNegativeZeroBeforePositiveZeroAndNanLast() {
+        double[] a = {Double.NaN, 0.0, -0.0, 1.0};
+        Heapsort.sort(a);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(a[0]));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(a[1]));
+        assertTrue(Double.isNaN(a[3]));
+    }
+
+    @Test
+    void floatOverloadMatchesArraysSort() {
+        Random rnd = new Random(3);
+        float[] a = new float[1000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = rnd.nextFloat() * 2000 - 1000;
+        }
+        a[0] = Float.NaN;
+        a[1] = -0.0f;
+        a[2] = 0.0f;
+        a[3] = Float.NEGATIVE_INFINITY;
+        a[4] = -0.0f;
+        float[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void shortOverloadMatchesArraysSort() {
+        Random rnd = new Random(4);
+        short[] a = new short[1000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (short) rnd.nextInt();
+        }
+        short[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void charOverloadMatchesArraysSort() {
+        Random rnd = new Random(5);
+        char[] a = new char[1000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (char) rnd.nextInt();
+        }
+        a[0] = Character.MAX_VALUE;
+        char[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void byteOverloadMatchesArraysSort() {
+        Random rnd = new Random(6);
+        byte[] a = new byte[1000];
+        rnd.nextBytes(a);
+        byte[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void primitiveOverloadsHandleEmptyAndSingle() {
+        long[] l = {};
+        Heapsort.sort(l);
+        assertEquals(0, l.length);
+        double[] d = {1.5};
+        Heapsort.sort(d);
+        assertEquals(1.5, d[0]);
+        byte[] b = {2, 1};
+        Heapsort.sort(b);
+        assertArrayEquals(new byte[]{1, 2}, b);
+    }
+
+    @Test
+    void bottomUpVariantMatchesArraysSort() {
+        Random rnd = new Random(7);
+        for (int n : new int[]{0, 1, 2, 3, 7, 8, 100, 1023, 5000}) {
+            int[] a = rnd.ints(n, -50, 50).toArray();
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            Heapsort.sort(a, Heapsort.Variant.BOTTOM_UP);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    void classicVariantDelegatesToSort() {
+        int[] a = {5, 1, 4, 2, 3};
+        Heapsort.sort(a, Heapsort.Variant.CLASSIC);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, a);
+    }
+
+    @Test
+    void siftDownBottomUpRestoresHeapProperty() {
+        int[] a = {1, 9, 2, 10, 0, 0, 0};
+        Heapsort.siftDownBottomUp(a, a.length, 0);
+        assertArrayEquals(new int[]{9, 10, 2, 1, 0, 0, 0}, a);
+    }
+
+    @Test
+    void bottomUpUsesFewerComparisonsOnRandomInput() {
+        int[] base = new Random(8).ints(10_000).toArray();
+        int[] classic = base.clone();
+        int[] bottomUp = base.clone();
+        long classicCmp = Heapsort.countComparisons(classic, Heapsort.Variant.CLASSIC);
+        long bottomUpCmp = Heapsort.countComparisons(bottomUp, Heapsort.Variant.BOTTOM_UP);
+        int[] expected = base.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, classic);
+        assertArrayEquals(expected, bottomUp);
+        assertTrue(bottomUpCmp < classicCmp);
+    }
+
+    @Test
+    void daryVariantsMatchArraysSort() {
+        Random rnd = new Random(9);
+        for (int arity : new int[]{2, 3, 4, 8}) {
+            for (int n : new int[]{0, 1, 2, 9, 64, 65, 1000, 4097}) {
+                int[] a = rnd.ints(n).toArray();
+                int[] expected = a.clone();
+                Arrays.sort(expected);
+                Heapsort.sort(a, arity);
+                assertArrayEquals(expected, a, "arity=" + arity + ", n=" + n);
+            }
+        }
+    }
+
+    @Test
+    void daryRejectsArityBelowTwo() {
+        assertThrows(IllegalArgumentException.class, () -> Heapsort.sort(new int[]{2, 1}, 1));
+    }
+
+    @Test
+    void siftDownDaryMovesLargestChildUp() {
+        int[] a = {0, 1, 7, 3, 5};
+        Heapsort.siftDownDary(a, a.length, 0, 4);
+        assertArrayEquals(new int[]{7, 1, 0, 3, 5}, a);
+    }
+
+    @Test
+    void rangeSortLeavesOutsideUntouched() {
+        int[] a = {9, 8, 7, 6, 5, 4, 3};
+        Heapsort.sort(a, 2, 6);
+        assertArrayEquals(new int[]{9, 8, 4, 5, 6, 7, 3}, a);
+        assertThrows(IndexOutOfBoundsException.class, () -> Heapsort.sort(a, 3, 8));
+    }
+
+    @Test
+    void parallelSortMatchesArraysSort() {
+        Random rnd = new Random(10);
+        for (int n : new int[]{0, 1, 100, 1001, 50_000}) {
+            int[] a = rnd.ints(n).toArray();
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            Heapsort.parallelSort(a, 64);
+            assertArrayEquals(expected, a, "n=" + n);
+        }
+    }
+
+    @Test
+    void parallelSortDefaultThreshold() {
+        int[] a = new Random(11).ints(200_000, 0, 1000).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.parallelSort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void parallelSortMergesManyRunsInExplicitPool() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rnd = new Random(12);
+            for (int n : new int[]{65, 256, 1000, 4099}) {
+                int[] random = rnd.ints(n).toArray();
+                // на отсортированном входе последней опустошается серия в конце массива
+                int[] ascending = IntStream.range(0, n).toArray();
+                for (int[] a : new int[][]{random, ascending}) {
+                    int[] expected = a.clone();
+                    Arrays.sort(expected);
+                    Heapsort.parallelSort(a, 16, pool);
+                    assertArrayEquals(expected, a, "n=" + n);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelRunsNeverShorterThanThreshold() {
+        assertEquals(1, Heapsort.runCount(65, 64, 8));
+        assertEquals(1, Heapsort.runCount(127, 64, 8));
+        assertEquals(2, Heapsort.runCount(128, 64, 8));
+        assertEquals(8, Heapsort.runCount(1_000_000, 64, 8));
+        assertEquals(1, Heapsort.runCount(0, 64, 8));
+        for (int n = 1; n < 600; n++) {
+            int runs = Heapsort.runCount(n, 64, 4);
+            assertTrue(runs == 1 || n / runs >= 64, "n=" + n);
+        }
+    }
+
+    @Test
+    void mergeRunsLastRunEndingAtArrayEnd() {
+        int[] src = {1, 2, 3, 4};
+        int[] dst = new int[src.length];
+        Heapsort.mergeRuns(src, new int[]{0, 2, 4}, dst);
+        assertArrayEquals(new int[]{1, 2, 3, 4}, dst);
+    }
+
+    @Test
+    void parallelSortRejectsNonPositiveThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> Heapsort.parallelSort(new int[0], 0));
+    }
+
+    @Test
+    void mergeRunsSkipsEmptyRuns() {
+        int[] src = {1, 4, 9, 2, 3, 0, 5};
+        int[] dst = new int[src.length];
+        Heapsort.mergeRuns(src, new int[]{0, 3, 3, 5, 7}, dst);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 9}, dst);
+    }
+
+    @Test
+    void mergeRunsMaximumInLastRun() {
+        int[] src = {1, 3, 2, 9};
+        int[] dst = new int[src.length];
+        Heapsort.mergeRuns(src, new int[]{0, 2, 4}, dst);
+        assertArrayEquals(new int[]{1, 2, 3, 9}, dst);
+    }
+
+    private static void assertMaxHeap(int[] a) {
+        for (int i = 1; i < a.length; i++) {
+            assertTrue(a[(i - 1) / 2] >= a[i], "i=" + i);
+        }
+    }
+
+    @Test
+    void parallelBuildProducesValidHeap() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random rnd = new Random(12);
+            for (int n : new int[]{0, 1, 2, 7, 64, 65, 1000, 4097, 50_000}) {
+                int[] a = rnd.ints(n).toArray();
+                int[] expected = a.clone();
+                Heapsort.buildHeapParallel(a, pool, 4);
+                assertMaxHeap(a);
+                Arrays.sort(expected);
+                int[] sorted = a.clone();
+                Arrays.sort(sorted);
+                assertArrayEquals(expected, sorted, "перестановка, n=" + n);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelBuildSortMatchesArraysSort() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Random rnd = new Random(13);
+            for (int n : new int[]{0, 1, 100, 200_000}) {
+                int[] a = rnd.ints(n, -500, 500).toArray();
+                int[] expected = a.clone();
+                Arrays.sort(expected);
+                Heapsort.parallelBuildSort(a, pool);
+                assertArrayEquals(expected, a, "n=" + n);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        int[] a = new Random(14).ints(10_000).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.parallelBuildSort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void buildSubtreeTouchesOnlyItsSubtree() {
+        int[] a = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14};
+        Heapsort.buildSubtree(a, 2);
+        assertArrayEquals(new int[]{0, 1, 14, 3, 4, 12, 13, 7, 8, 9, 10, 11, 5, 2, 6}, a);
+    }
+
+    @Test
+    void topKReturnsLargestDescendingWithoutTouchingInput() {
+        int[] a = new Random(13).ints(5000).toArray();
+        int[] copy = a.clone();
+        int[] sorted = a.clone();
+        Arrays.sort(sorted);
+        int[] top = Heapsort.topK(a, 10);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(sorted[sorted.length - 1 - i], top[i]);
+        }
+        assertArrayEquals(copy, a);
+        assertEquals(a.length, Heapsort.topK(a, a.length + 5).length);
+        assertThrows(IllegalArgumentException.class, () -> Heapsort.topK(a, -1));
+    }
+
+    @Test
+    void partialSortOrdersSmallestPrefix() {
+        int[] a = new Random(14).ints(5000, -100, 100).toArray();
+        int[] sorted = a.clone();
+        Arrays.sort(sorted);
+        Heapsort.partialSort(a, 50);
+        assertArrayEquals(Arrays.copyOf(sorted, 50), Arrays.copyOf(a, 50));
+        int[] rest = Arrays.copyOfRange(a, 50, a.length);
+        Arrays.sort(rest);
+        assertArrayEquals(Arrays.copyOfRange(sorted, 50, sorted.length), rest);
+    }
+
+    @Test
+    void partialSortEdgeCases() {
+        int[] a = {3, 1, 2};
+        Heapsort.partialSort(a, 0);
+        assertArrayEquals(new int[]{3, 1, 2}, a);
+        Heapsort.partialSort(a, 10);
+        assertArrayEquals(new int[]{1, 2, 3}, a);
+        assertThrows(IllegalArgumentException.class, () -> Heapsort.partialSort(a, -1));
+    }
+
+    private static void assertAdaptive(int[] a, Heapsort.AdaptivePath path) {
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        assertEquals(path, Heapsort.dispatch(a));
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void adaptiveTinyUsesInsertion() {
+        assertAdaptive(new int[]{5, -1, 3, 3, 0}, Heapsort.AdaptivePath.INSERTION);
+        assertAdaptive(new int[]{}, Heapsort.AdaptivePath.INSERTION);
+    }
+
+    @Test
+    void adaptiveDetectsSortedAndReversed() {
+        int[] sorted = new int[1000];
+        int[] reversed = new int[1000];
+        for (int i = 0; i < 1000; i++) {
+            sorted[i] = i / 3 * 1_000_003;
+            reversed[i] = -sorted[i];
+        }
+        assertAdaptive(sorted, Heapsort.AdaptivePath.ALREADY_SORTED);
+        assertAdaptive(reversed, Heapsort.AdaptivePath.REVERSED);
+    }
+
+    @Test
+    void adaptiveNarrowRangeUsesCounting() {
+        int[] a = new Random(19).ints(10_000, Integer.MIN_VALUE, Integer.MIN_VALUE + 5).toArray();
+        assertAdaptive(a, Heapsort.AdaptivePath.COUNTING);
+    }
+
+    @Test
+    void adaptiveWideRangeFallsBackToHeapsort() {
+        int[] a = new Random(20).ints(10_000).toArray();
+        a[0] = Integer.MIN_VALUE;
+        a[1] = Integer.MAX_VALUE;
+        assertAdaptive(a, Heapsort.AdaptivePath.HEAPSORT);
+    }
+
+    @Test
+    void adaptiveSortPublicEntryPoint() {
+        int[] a = new Random(21).ints(500, 0, 1_000_000).toArray();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        Heapsort.adaptiveSort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void argsortReturnsSortingPermutation() {
+        int[] keys = new Random(22).ints(3000, -20, 20).toArray();
+        int[] copy = keys.clone();
+        int[] perm = Heapsort.argsort(keys);
+        assertArrayEquals(copy, keys);
+        boolean[] seen = new boolean[keys.length];
+        for (int i = 0; i < perm.length; i++) {
+            assertTrue(!seen[perm[i]]);
+            seen[perm[i]] = true;
+            if (i > 0) {
+                assertTrue(keys[perm[i - 1]] <= keys[perm[i]]);
+            }
+        }
+        assertEquals(0, Heapsort.argsort(new int[0]).length);
+    }
+
+    @Test
+    void sortByKeyMovesPayloadInLockstep() {
+        Random rnd = new Random(23);
+        int[] keys = rnd.ints(3000).toArray();
+        int[] payload = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            payload[i] = ~keys[i];
+        }
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        Heapsort.sortByKey(keys, payload);
+        assertArrayEquals(expected, keys);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(~keys[i], payload[i]);
+        }
+    }
+
+    @Test
+    void sortByKeyRejectsLengthMismatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Heapsort.sortByKey(new int[2], new int[3]));
+    }
+
+    @Test
+    void comparatorSortMatchesArraysSort() {
+        Random rnd = new Random(24);
+        String[] a = new String[2000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = Integer.toString(rnd.nextInt(100_000), 36);
+        }
+        String[] expected = a.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+        Heapsort.sort(a, Comparator.reverseOrder());
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    void keyExtractorCalledOncePerElement() {
+        Random rnd = new Random(25);
+        long[][] trades = new long[2000][];
+        for (int i = 0; i < trades.length; i++) {
+            trades[i] = new long[]{rnd.nextLong(), i};
+        }
+        int[] calls = new int[1];
+        Heapsort.sort(trades, t -> {
+            calls[0]++;
+            return t[0];
+        });
+        assertEquals(trades.length, calls[0]);
+        for (int i = 1; i < trades.length; i++) {
+            assertTrue(trades[i - 1][0] <= trades[i][0]);
+        }
+    }
+
+    @Test
+    void lazySortedYieldsAscendingWithoutTouchingInput() {
+        int[] a = new Random(29).ints(2000, -100, 100).toArray();
+        int[] copy = a.clone();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        PrimitiveIterator.OfInt it = Heapsort.lazySorted(a);
+        for (int v : expected) {
+            assertTrue(it.hasNext());
+            assertEquals(v, it.nextInt());
+        }
+        assertTrue(!it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextInt);
+        assertArrayEquals(copy, a);
+    }
+
+    @Test
+    void lazySortedFirstPageOnly() {
+        PrimitiveIterator.OfInt it = Heapsort.lazySorted(new int[]{7, 3, 9, 1, 5});
+        assertEquals(1, it.nextInt());
+        assertEquals(3, it.next());
+    }
+
+    @Test
+    void metricsReportBothPhasesWithConsistentCounters() {
+        for (Heapsort.Variant variant : Heapsort.Variant.values()) {
+            int[] a = new Random(30).ints(4096).toArray();
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            List<SortMetrics.Phase> phases = new ArrayList<>();
+            long[] sifts = new long[2];
+            long[] swaps = new long[2];
+            Heapsort.sort(a, variant, (phase, nanos, comparisons, swapCount, depths) -> {
+                phases.add(phase);
+                assertTrue(nanos >= 0 && comparisons > 0);
+                assertEquals(13, depths.length);
+                for (long d : depths) {
+                    sifts[phase.ordinal()] += d;
+                }
+                swaps[phase.ordinal()] = swapCount;
+            });
+            assertArrayEquals(expected, a);
+            assertEquals(List.of(SortMetrics.Phase.BUILD, SortMetrics.Phase.EXTRACT), phases);
+            assertEquals(a.length / 2, sifts[0]);
+            assertEquals(a.length - 1, sifts[1]);
+            assertTrue(swaps[1] >= a.length - 1);
+        }
+    }
+
+    @Test
+    void nullMetricsFallsBackToPlainSort() {
+        int[] a = {3, 1, 2};
+        Heapsort.sort(a, Heapsort.Variant.BOTTOM_UP, null);
+        assertArrayEquals(new int[]{1, 2, 3}, a);
+    }
+
+    @Test
+    void metricsOnTrivialArrays() {
+        long[] total = new long[1];
+        Heapsort.sort(new int[0], Heapsort.Variant.CLASSIC,
+                (phase, nanos, comparisons, swaps, depths) -> total[0] += comparisons + swaps);
+        Heapsort.sort(new int[]{1}, Heapsort.Variant.CLASSIC,
+                (phase, nanos, comparisons, swaps, depths) -> total[0] += comparisons + swaps);
+        assertEquals(0, total[0]);
+    }
+}
@@ -0,0 +1,146 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Юнит-тесты для {@link IntHeap} и {@link IndexedIntHeap}.
+ */
+public class IntHeapTest {
+    @Test
+    void minHeapPopsAscending() {
+        IntHeap h = IntHeap.minHeap();
+        int[] data = new Random(26).ints(1000).toArray();
+        for (int v : data) {
+            h.push(v);
+        }
+        assertEquals(data.length, h.size());
+        Arrays.sort(data);
+        for (int v : data) {
+            assertEquals(v, h.peek());
+            assertEquals(v, h.pop());
+        }
+        assertTrue(h.isEmpty());
+    }
+
+    @Test
+    void maxHeapBulkHeapify() {
+        int[] data = new Random(27).ints(1000, -50, 50).toArray();
+        IntHeap h = IntHeap.heapify(data, true);
+        int[] popped = new int[data.length];
+        for (int i = popped.length - 1; i >= 0; i--) {
+            popped[i] = h.pop();
+        }
+        Arrays.sort(data);
+        assertArrayEquals(data, popped);
+    }
+
+    @Test
+    void addAllAfterPushesKeepsOrder() {
+        IntHeap h = IntHeap.maxHeap();
+        h.push(5);
+        h.addAll(9, 1, 7);
+        h.push(3);
+        assertEquals(9, h.pop());
+        assertEquals(7, h.pop());
+        assertEquals(5, h.pop());
+        h.clear();
+        assertTrue(h.isEmpty());
+    }
+
+    @Test
+    void emptyHeapThrows() {
+        IntHeap h = IntHeap.heapify(new int[0], false);
+        assertThrows(NoSuchElementException.class, h::peek);
+        assertThrows(NoSuchElementException.class, h::pop);
+    }
+
+    @Test
+    void indexedMatchesPriorityQueueUnderKeyChanges() {
+        Random rnd = new Random(28);
+        IndexedIntHeap h = IndexedIntHeap.minHeap();
+        int[] key = new int[200];
+        for (int id = 0; id < key.length; id++) {
+            key[id] = rnd.nextInt(10_000);
+            h.push(id, key[id]);
+        }
+        for (int step = 0; step < 500; step++) {
+            int id = rnd.nextInt(key.length);
+            int delta = rnd.nextInt(100);
+            if (rnd.nextBoolean()) {
+                key[id] -= delta;
+                h.decreaseKey(id, key[id]);
+            } else {
+                key[id] += delta;
+                h.increaseKey(id, key[id]);
+            }
+        }
+        PriorityQueue<Integer> expected = new PriorityQueue<>();
+        for (int k : key) {
+            expected.add(k);
+        }
+        while (!h.isEmpty()) {
+            int k = h.peekKey();
+            int id = h.pop();
+            assertEquals(key[id], k);
+            assertEquals(expected.poll(), k);
+            assertFalse(h.contains(id));
+        }
+    }
+
+    @Test
+    void indexedMaxHeapAndGrowth() {
+        IndexedIntHeap h = IndexedIntHeap.maxHeap();
+        h.push(1000, 5);
+        h.push(3, 8);
+        h.push(42, 1);
+        assertEquals(3, h.peek());
+        h.increaseKey(42, 10);
+        assertEquals(42, h.pop());
+        h.decreaseKey(3, 0);
+        assertEquals(1000, h.pop());
+        assertEquals(0, h.keyOf(3));
+        assertEquals(1, h.size());
+    }
+
+    @Test
+    void indexedRejectsInvalidOperations() {
+        IndexedIntHeap h = IndexedIntHeap.minHeap();
+        h.push(1, 10);
+        assertThrows(IllegalArgumentException.class, () -> h.push(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> h.push(-1, 3));
+        assertThrows(IllegalArgumentException.class, () -> h.decreaseKey(1, 11));
+        assertThrows(IllegalArgumentException.class, () -> h.increaseKey(1, 9));
+        assertThrows(IllegalArgumentException.class, () -> h.keyOf(2));
+        h.pop();
+        assertThrows(NoSuchElementException.class, h::peekKey);
+    }
+
+    @Test
+    void indexedRejectsIdsBeyondArrayLimit() {
+        IndexedIntHeap h = IndexedIntHeap.minHeap();
+        assertThrows(IllegalArgumentException.class, () -> h.push(Integer.MAX_VALUE, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> h.push(IntHeap.MAX_ARRAY_LENGTH, 1));
+        assertEquals(0, h.size());
+    }
+
+    @Test
+    void growthNeverOverflows() {
+        assertEquals(24, IntHeap.grow(16, 17));
+        assertEquals(1000, IntHeap.grow(16, 1000));
+        int max = IntHeap.MAX_ARRAY_LENGTH;
+        assertEquals(max, IntHeap.grow(1_500_000_000, 1_500_000_001));
+        assertEquals(max, IntHeap.grow(max - 1, max));
+        assertThrows(IllegalStateException.class, () -> IntHeap.grow(max, max + 1L));
+        assertThrows(IllegalStateException.class,
+                () -> IntHeap.grow(1_500_000_000, 1_500_000_000L + 1_000_000_000));
+    }
+}
@@ -0,0 +1,137 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Юнит-тесты для {@link SortingNetwork}, векторного ядра и {@link Heapsort#hybridSort(int[])}.
+ */
+public class SortingNetworkTest {
+    /**
+     * Принцип нулей и единиц: сеть сортирует любые входы, если сортирует все 0/1-входы.
+     */
+    @Test
+    void networksSortAllZeroOneInputs() {
+        for (int width : new int[]{8, 16}) {
+            int[] net = SortingNetwork.network(width);
+            for (int mask = 0; mask < (1 << width); mask++) {
+                int[] a = new int[width];
+                for (int i = 0; i < width; i++) {
+                    a[i] = (mask >>> i) & 1;
+                }
+                SortingNetwork.sortBlock(a, 0, net);
+                for (int i = 1; i < width; i++) {
+                    assertTrue(a[i - 1] <= a[i], "width=" + width + ", mask=" + mask);
+                }
+            }
+        }
+        assertEquals(2 * 19, SortingNetwork.NET8.length);
+        assertEquals(2 * 63, SortingNetwork.NET16.length);
+    }
+
+    /**
+     * Векторное ядро (при запуске с модулем) совпадает со скалярным, в том числе
+     * на всех 0/1-входах ширины 8 и 16.
+     */
+    @Test
+    void vectorKernelMatchesScalar() {
+        SortingNetwork.Kernel kernel = SortingNetwork.loadKernel("vector");
+        Random rnd = new Random(32);
+        for (int width : new int[]{8, 16}) {
+            for (int blocks : new int[]{0, 1, 7, 33, 100}) {
+                int[] a = rnd.ints(3 + blocks * width + 5).toArray();
+                int[] expected = a.clone();
+                SortingNetwork.SCALAR.sortBlocks(expected, 3, blocks, width);
+                kernel.sortBlocks(a, 3, blocks, width);
+                assertArrayEquals(expected, a);
+            }
+            int masks = 1 << width;
+            int[] a = new int[masks * width];
+            for (int mask = 0; mask < masks; mask++) {
+                for (int i = 0; i < width; i++) {
+                    a[mask * width + i] = (mask >>> i) & 1;
+                }
+            }
+            int[] expected = a.clone();
+            SortingNetwork.SCALAR.sortBlocks(expected, 0, masks, width);
+            kernel.sortBlocks(a, 0, masks, width);
+            assertArrayEquals(expected, a, "width=" + width);
+        }
+    }
+
+    @Test
+    void vectorKernelIsOptIn() {
+        boolean module = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(module, SortingNetwork.loadKernel("vector") != SortingNetwork.SCALAR);
+        assertEquals(SortingNetwork.SCALAR, SortingNetwork.loadKernel("scalar"));
+        assertEquals(System.getProperty(SortingNetwork.KERNEL_PROPERTY, "scalar")
+                        .equals("vector") && module,
+                SortingNetwork.KERNEL != SortingNetwork.SCALAR, SortingNetwork.KERNEL.name());
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.loadKernel("simd"));
+    }
+
+    @Test
+    void sortSmallPadsToNetworkWidth() {
+        for (int n = 0; n <= SortingNetwork.MAX_WIDTH; n++) {
+            int[] a = new Random(33 + n).ints(n).toArray();
+            a = Arrays.copyOf(a, n);
+            if (n > 0) {
+                a[0] = Integer.MAX_VALUE;
+            }
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            SortingNetwork.sortSmall(a);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    void unsupportedWidthRejected() {
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.network(4));
+    }
+
+    @Test
+    void hybridSortMatchesArraysSort() {
+        Random rnd = new Random(34);
+        for (int n : new int[]{0, 5, 16, 17, 31, 32, 33, 255, 256, 1000, 1007, 65_536}) {
+            int[] a = rnd.ints(n).toArray();
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            Heapsort.hybridSort(a);
+            assertArrayEquals(expected, a, "n=" + n);
+        }
+        int[] extremes = rnd.ints(5000, -3, 3).map(v -> v < -1 ? Integer.MIN_VALUE
+                : v > 1 ? Integer.MAX_VALUE : v).toArray();
+        int[] expected = extremes.clone();
+        Arrays.sort(expected);
+        Heapsort.hybridSort(extremes);
+        assertArrayEquals(expected, extremes);
+    }
+
+    /**
+     * Поддеревья нижних уровней, построенные сетью, — кучи, в том числе неполные,
+     * и пачки больше одной.
+     */
+    @Test
+    void heapifySubtreesBuildsValidSubheaps() {
+        Random rnd = new Random(35);
+        for (int n : new int[]{17, 20, 31, 1000, 4096 + 7}) {
+            int[] a = rnd.ints(n, 0, 50).toArray();
+            int[] before = a.clone();
+            int depth = 31 - Integer.numberOfLeadingZeros(n);
+            int firstRoot = (1 << (depth - 3)) - 1;
+            Heapsort.heapifySubtrees(a, firstRoot, firstRoot + 1);
+            for (int c = 2 * firstRoot + 1; c < n; c++) {
+                assertTrue(a[(c - 1) / 2] >= a[c], "n=" + n + ", child=" + c);
+            }
+            Arrays.sort(before);
+            int[] after = a.clone();
+            Arrays.sort(after);
+            assertArrayEquals(before, after, "n=" + n);
+        }
+    }
+}
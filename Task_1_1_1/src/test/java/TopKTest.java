@@ -0,0 +1,61 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Юнит-тесты для {@link TopK}.
+ */
+public class TopKTest {
+    @Test
+    void keepsLargestInDescendingOrder() {
+        TopK acc = new TopK(3);
+        for (int v : new int[]{5, 1, 9, 3, 7, 9, 2}) {
+            acc.accept(v);
+        }
+        assertEquals(3, acc.size());
+        assertArrayEquals(new int[]{9, 9, 7}, acc.toArray());
+    }
+
+    @Test
+    void fewerValuesThanCapacity() {
+        TopK acc = new TopK(10);
+        acc.accept(2);
+        acc.accept(-4);
+        assertArrayEquals(new int[]{2, -4}, acc.toArray());
+    }
+
+    @Test
+    void zeroCapacityIgnoresEverything() {
+        TopK acc = new TopK(0);
+        acc.accept(1);
+        assertEquals(0, acc.toArray().length);
+    }
+
+    @Test
+    void combineMergesPartialResults() {
+        TopK left = new TopK(2);
+        TopK right = new TopK(2);
+        left.accept(1);
+        left.accept(8);
+        right.accept(5);
+        right.accept(10);
+        left.combine(right);
+        assertArrayEquals(new int[]{10, 8}, left.toArray());
+    }
+
+    @Test
+    void negativeCapacityRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TopK(-1));
+    }
+
+    @Test
+    void parallelStreamMatchesSequential() {
+        int[] data = new Random(12).ints(100_000).toArray();
+        int[] expected = Heapsort.topK(data, 100);
+        assertArrayEquals(expected, Heapsort.topK(IntStream.of(data).parallel(), 100));
+    }
+}
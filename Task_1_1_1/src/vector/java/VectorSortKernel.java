@@ -0,0 +1,124 @@
+import java.util.ArrayList;
+import java.util.List;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Векторное ядро сортирующей сети на {@code jdk.incubator.vector}.
+ * Блок целиком помещается в один вектор: ширина 8 — в 256-битный, 16 — в 512-битный.
+ * Блок читается одной непрерывной загрузкой, компараторы сети сгруппированы в слои
+ * с непересекающимися парами, и каждый слой выполняется в регистре: перестановка
+ * {@code rearrange} ставит напротив каждой дорожки её пару, после чего {@code min}/{@code max}
+ * и {@code blend} по маске старших дорожек. Промежуточных массивов нет.
+ * Ширины, для которых процессор не даёт вектора нужной длины, сортируются
+ * скалярной сетью.
+ * Класс загружается только через {@link SortingNetwork}; лежит в отдельном наборе
+ * исходников {@code vector}, единственном, который собирается
+ * с {@code --add-modules jdk.incubator.vector}.
+ */
+final class VectorSortKernel implements SortingNetwork.Kernel {
+    private static final VectorSpecies<Integer> S8 = IntVector.SPECIES_256;
+    private static final VectorSpecies<Integer> S16 = IntVector.SPECIES_512;
+
+    private static final boolean NATIVE8 = IntVector.SPECIES_PREFERRED.length() >= 8;
+    private static final boolean NATIVE16 = IntVector.SPECIES_PREFERRED.length() >= 16;
+
+    private static final VectorShuffle<Integer>[] PARTNERS8 = partners(S8, SortingNetwork.NET8);
+    private static final VectorMask<Integer>[] UPPER8 = upper(S8, SortingNetwork.NET8);
+    private static final VectorShuffle<Integer>[] PARTNERS16 =
+            partners(S16, SortingNetwork.NET16);
+    private static final VectorMask<Integer>[] UPPER16 = upper(S16, SortingNetwork.NET16);
+
+    @Override
+    public void sortBlocks(int[] a, int from, int blocks, int width) {
+        if (width == 8 && NATIVE8) {
+            for (int b = 0; b < blocks; b++) {
+                sort8(a, from + b * 8);
+            }
+        } else if (width == 16 && NATIVE16) {
+            for (int b = 0; b < blocks; b++) {
+                sort16(a, from + b * 16);
+            }
+        } else {
+            SortingNetwork.SCALAR.sortBlocks(a, from, blocks, width);
+        }
+    }
+
+    private static void sort8(int[] a, int off) {
+        IntVector v = IntVector.fromArray(S8, a, off);
+        for (int l = 0; l < PARTNERS8.length; l++) {
+            IntVector w = v.rearrange(PARTNERS8[l]);
+            v = v.min(w).blend(v.max(w), UPPER8[l]);
+        }
+        v.intoArray(a, off);
+    }
+
+    private static void sort16(int[] a, int off) {
+        IntVector v = IntVector.fromArray(S16, a, off);
+        for (int l = 0; l < PARTNERS16.length; l++) {
+            IntVector w = v.rearrange(PARTNERS16[l]);
+            v = v.min(w).blend(v.max(w), UPPER16[l]);
+        }
+        v.intoArray(a, off);
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + (NATIVE16 ? 16 : NATIVE8 ? 8 : 1) + "x32";
+    }
+
+    /**
+     * Раскладывает компараторы сети по слоям: компаратор попадает в первый слой после
+     * последнего, где уже встречалась любая из его дорожек. Слой задаётся массивом
+     * партнёров, в котором дорожка без компаратора указывает сама на себя.
+     */
+    private static List<int[]> layers(int[] net, int width) {
+        List<int[]> layers = new ArrayList<>();
+        int[] depth = new int[width];
+        for (int c = 0; c < net.length; c += 2) {
+            int p = net[c];
+            int q = net[c + 1];
+            int d = Math.max(depth[p], depth[q]);
+            if (d == layers.size()) {
+                int[] identity = new int[width];
+                for (int i = 0; i < width; i++) {
+                    identity[i] = i;
+                }
+                layers.add(identity);
+            }
+            layers.get(d)[p] = q;
+            layers.get(d)[q] = p;
+            depth[p] = d + 1;
+            depth[q] = d + 1;
+        }
+        return layers;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorShuffle<Integer>[] partners(VectorSpecies<Integer> species, int[] net) {
+        List<int[]> layers = layers(net, species.length());
+        VectorShuffle<Integer>[] shuffles = new VectorShuffle[layers.size()];
+        for (int l = 0; l < shuffles.length; l++) {
+            shuffles[l] = VectorShuffle.fromArray(species, layers.get(l), 0);
+        }
+        return shuffles;
+    }
+
+    /** Маски дорожек, получающих больший элемент пары, — старших в своём компараторе. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static VectorMask<Integer>[] upper(VectorSpecies<Integer> species, int[] net) {
+        List<int[]> layers = layers(net, species.length());
+        VectorMask<Integer>[] masks = new VectorMask[layers.size()];
+        for (int l = 0; l < masks.length; l++) {
+            int[] partner = layers.get(l);
+            boolean[] bits = new boolean[partner.length];
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] = partner[i] < i;
+            }
+            masks[l] = VectorMask.fromArray(species, bits, 0);
+        }
+        return masks;
+    }
+}
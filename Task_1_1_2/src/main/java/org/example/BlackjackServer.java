@@ -0,0 +1,264 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Сервер блэкджека на локальном TCP-порту. Каждое подключение — отдельный стол:
+ * своя {@link Game} со своим {@link Deck} в собственном потоке. Потоки виртуальные,
+ * если их поддерживает JVM (Java 21+), иначе — по платформенному потоку на сессию.
+ *
+ * <p>Протокол строковый, UTF-8, одна строка ответа на каждую команду:
+ * <pre>
+ * сервер: HELLO blackjack 1
+ * DEAL | HIT | STAND  →  TURN &lt;сумма&gt; &lt;мягкая 0|1&gt; &lt;код открытой карты&gt;
+ *                     или DONE &lt;итог&gt; &lt;сумма игрока&gt; &lt;сумма дилера&gt;
+ *                                 &lt;победы&gt; &lt;поражения&gt; &lt;ничьи&gt;
+ * QUIT                →  BYE
+ * ошибка              →  ERR &lt;текст&gt;
+ * </pre>
+ */
+final class BlackjackServer implements Closeable {
+    static final String GREETING = "HELLO blackjack 1";
+
+    private static final int BACKLOG = 16_384;
+
+    /** Пауза после ошибки {@code accept}, не связанной с остановкой (например, EMFILE), мс. */
+    static final long ACCEPT_BACKOFF_MILLIS = 50;
+
+    private final ServerSocket server;
+    private final ExecutorService sessions;
+    /** Сокеты живых сессий; доступ под собственным монитором, вместе с {@link #stopped}. */
+    private final Set<Socket> open = new HashSet<>();
+    private volatile boolean stopped;
+    private final LongAdder rounds = new LongAdder();
+    private final int decks;
+    private final double penetration;
+    private final SplittableRandom seeds = new SplittableRandom();
+
+    /**
+     * Открывает порт на loopback-интерфейсе и начинает принимать подключения.
+     *
+     * @param port        порт; 0 — любой свободный
+     * @param decks       число колод в шузе каждого стола
+     * @param penetration доля шуза до карты отсечки
+     */
+    BlackjackServer(int port, int decks, double penetration) throws IOException {
+        this.decks = decks;
+        this.penetration = penetration;
+        this.server = new ServerSocket();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.sessions = newSessionExecutor();
+        Thread acceptor = new Thread(this::acceptLoop, "blackjack-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    /** Число раундов, завершённых всеми сессиями. */
+    long roundsPlayed() {
+        return rounds.sum();
+    }
+
+    /**
+     * Останавливает приём подключений и закрывает все сессии. Сокет, принятый
+     * одновременно с закрытием, либо попадает в закрываемый набор, либо закрывается
+     * самим циклом приёма: регистрация и остановка идут под одним монитором.
+     */
+    @Override
+    public void close() throws IOException {
+        List<Socket> sockets;
+        synchronized (open) {
+            stopped = true;
+            sockets = new ArrayList<>(open);
+            open.clear();
+        }
+        try {
+            server.close();
+        } finally {
+            for (Socket s : sockets) {
+                closeQuietly(s);
+            }
+            sessions.shutdownNow();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!stopped) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (IOException e) {
+                if (stopped || server.isClosed()) {
+                    return;
+                }
+                // исчерпаны дескрипторы и т. п.: не крутиться вхолостую
+                try {
+                    Thread.sleep(ACCEPT_BACKOFF_MILLIS);
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                socket.setTcpNoDelay(true);
+            } catch (IOException e) {
+                closeQuietly(socket);
+                continue;
+            }
+            if (!register(socket)) {
+                closeQuietly(socket);
+                return;
+            }
+            SplittableRandom random;
+            synchronized (seeds) {
+                random = seeds.split();
+            }
+            try {
+                sessions.submit(() -> serve(socket, random));
+            } catch (RejectedExecutionException e) {
+                unregister(socket);
+                closeQuietly(socket);
+                return;
+            }
+        }
+    }
+
+    /** Добавляет сокет в набор живых сессий; {@code false}, если сервер уже остановлен. */
+    private boolean register(Socket socket) {
+        synchronized (open) {
+            if (stopped) {
+                return false;
+            }
+            open.add(socket);
+            return true;
+        }
+    }
+
+    private void unregister(Socket socket) {
+        synchronized (open) {
+            open.remove(socket);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // сокет уже не нужен
+        }
+    }
+
+    private void serve(Socket socket, SplittableRandom random) {
+        Game game = new Game(new Deck(decks, penetration, random), NullRenderer.INSTANCE);
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            reply(out, GREETING);
+            String line;
+            while ((line = in.readLine()) != null) {
+                String response = handle(game, line);
+                if (response == null) {
+                    reply(out, "BYE");
+                    break;
+                }
+                reply(out, response);
+            }
+        } catch (IOException e) {
+            // клиент отключился
+        } finally {
+            unregister(socket);
+        }
+    }
+
+    private static void reply(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * Выполняет команду протокола.
+     *
+     * @return строка ответа; {@code null} для {@code QUIT}
+     */
+    String handle(Game game, String command) {
+        try {
+            switch (command.trim().toUpperCase(Locale.ROOT)) {
+                case "DEAL":
+                    game.startRound();
+                    break;
+                case "HIT":
+                    game.hit();
+                    break;
+                case "STAND":
+                    game.stand();
+                    break;
+                case "QUIT":
+                    return null;
+                default:
+                    return "ERR неизвестная команда: " + command.trim();
+            }
+        } catch (IllegalStateException e) {
+            return "ERR " + e.getMessage();
+        }
+        if (game.phase == Game.Phase.PLAYER_TURN) {
+            return "TURN " + game.player.value() + " " + (game.player.isSoft() ? 1 : 0)
+                    + " " + game.dealer.card(0).code;
+        }
+        rounds.increment();
+        return "DONE " + game.outcome + " " + game.player.value() + " " + game.dealer.value()
+                + " " + game.playerWins + " " + game.dealerWins + " " + game.draws;
+    }
+
+    /**
+     * Исполнитель сессий: поток на задачу — виртуальный, если доступен, иначе платформенный.
+     * Единственная копия в этом проекте, ею пользуется и {@link LoadGenerator}; проект
+     * собирается под Java 17, поэтому метод ищется отражением.
+     *
+     * @return новый исполнитель
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /** {@code server [порт] [колоды] [отсечка]}: работает до завершения процесса. */
+    static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7021;
+        int decks = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        double penetration = args.length > 2 ? Double.parseDouble(args[2]) : 0.75;
+        BlackjackServer server = new BlackjackServer(port, decks, penetration);
+        System.out.println("Сервер блэкджека слушает 127.0.0.1:" + server.port());
+        Thread.currentThread().join();
+    }
+}
@@ -1,18 +1,72 @@
 package org.example;
 
+/**
+ * Карта. Для расчётов используется компактный код {@code rank << 2 | suit} (0..51),
+ * строки масти и ранга нужны только для вывода.
+ */
 class Card {
-    String suit;
-    String rank;
-    int value;
+    static final int CODES = 52;
+
+    private static final Rank[] RANKS = Rank.values();
+    private static final Suit[] SUITS = Suit.values();
+    private static final int[] VALUES = new int[CODES];
+    private static final Card[] CARDS = new Card[CODES];
+
+    static {
+        for (int code = 0; code < CODES; code++) {
+            VALUES[code] = rankOf(code).value();
+            CARDS[code] = new Card(suitOf(code), rankOf(code));
+        }
+    }
+
+    final String suit;
+    final String rank;
+    final int value;
+    final int code;
 
     Card(String suit, String rank, int value) {
         this.suit = suit;
         this.rank = rank;
         this.value = value;
+        this.code = encode(Rank.byLabel(rank), Suit.byLabel(suit));
+    }
+
+    private Card(Suit suit, Rank rank) {
+        this(suit.label(), rank.label(), rank.value());
+    }
+
+    /** Общий экземпляр карты по коду: раздача не создаёт объектов. */
+    static Card of(int code) {
+        return CARDS[code];
+    }
+
+    static int encode(Rank rank, Suit suit) {
+        return rank.ordinal() << 2 | suit.ordinal();
+    }
+
+    static Rank rankOf(int code) {
+        return RANKS[code >>> 2];
+    }
+
+    static Suit suitOf(int code) {
+        return SUITS[code & 3];
+    }
+
+    /** Очки карты по коду; туз считается за 11. */
+    static int valueOf(int code) {
+        return VALUES[code];
+    }
+
+    static boolean isAce(int code) {
+        return code >>> 2 == Rank.ACE.ordinal();
+    }
+
+    boolean isAce() {
+        return isAce(code);
     }
 
     @Override
     public String toString() {
         return rank + " " + suit + " (" + value + ")";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package org.example;
+
+import java.util.Scanner;
+import java.util.function.Supplier;
+
+/** Решения игрока с клавиатуры; вопросы выводятся через {@link ConsoleRenderer}. */
+class ConsoleInput implements PlayerInput {
+    private final Supplier<Scanner> in;
+    private final ConsoleRenderer out;
+
+    ConsoleInput(Supplier<Scanner> in, ConsoleRenderer out) {
+        this.in = in;
+        this.out = out;
+    }
+
+    @Override
+    public boolean hit(Hand player, int dealerUpcard) {
+        while (true) {
+            out.line("Введите 1 - взять, 0 - стоп: ");
+            out.flush();
+            String s = in.get().nextLine().trim();
+            if (s.equals("1")) {
+                return true;
+            }
+            if (s.equals("0")) {
+                return false;
+            }
+            out.line("Неверный ввод.");
+        }
+    }
+
+    @Override
+    public boolean playAgain() {
+        out.line("");
+        out.print("Сыграть ещё раунд? (y/n): ");
+        while (true) {
+            out.flush();
+            String s = in.get().nextLine().trim().toLowerCase();
+            if (s.startsWith("y") || s.startsWith("д")) {
+                return true;
+            }
+            if (s.startsWith("n") || s.startsWith("н")) {
+                return false;
+            }
+            out.print("Введите y/n: ");
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.example;
+
+import java.io.PrintStream;
+import java.util.function.Supplier;
+
+/**
+ * Текстовый вывод в консоль. Строки копятся в буфере и выводятся одним вызовом
+ * в конце раунда и перед каждым вопросом игроку ({@link #flush()}).
+ */
+class ConsoleRenderer implements Renderer {
+    private static final String NL = System.lineSeparator();
+
+    private final Supplier<PrintStream> out;
+    private final StringBuilder buf = new StringBuilder(1024);
+
+    /** Пишет в текущий {@link System#out}. */
+    ConsoleRenderer() {
+        this(() -> System.out);
+    }
+
+    ConsoleRenderer(Supplier<PrintStream> out) {
+        this.out = out;
+    }
+
+    void line(String s) {
+        buf.append(s).append(NL);
+    }
+
+    void print(String s) {
+        buf.append(s);
+    }
+
+    void flush() {
+        PrintStream ps = out.get();
+        ps.print(buf);
+        ps.flush();
+        buf.setLength(0);
+    }
+
+    @Override
+    public void gameStarted() {
+        line("Добро пожаловать в Блэкджек!");
+    }
+
+    @Override
+    public void roundStarted(int round) {
+        line("");
+        line("Раунд " + round);
+    }
+
+    @Override
+    public void dealt(Hand player, Hand dealer) {
+        line("Дилер раздал карты");
+        showHands(player, dealer, false);
+    }
+
+    @Override
+    public void playerTurnStarted(Hand player, Hand dealer) {
+        line("");
+        line("Ваш ход");
+        line("-------");
+    }
+
+    @Override
+    public void playerHit(Card card, Hand player, Hand dealer) {
+        line("Вы открыли карту: " + card);
+        showHands(player, dealer, false);
+    }
+
+    @Override
+    public void playerStood(Hand player, Hand dealer, boolean automatic) {
+        if (automatic) {
+            line("У вас 21. Стоп.");
+        }
+    }
+
+    @Override
+    public void dealerRevealed(Hand player, Hand dealer) {
+        line("\nХод Дилера");
+        line("-------");
+        line("Дилер открывает закрытую карту: " + dealer.card(1));
+        showHands(player, dealer, true);
+    }
+
+    @Override
+    public void dealerHit(Card card, Hand player, Hand dealer) {
+        line("Дилер открывает карту " + card);
+        showHands(player, dealer, true);
+    }
+
+    @Override
+    public void settled(Outcome outcome, Hand player, Hand dealer,
+                        int playerWins, int dealerWins, int draws) {
+        if (player.isBlackJack() || dealer.isBlackJack()) {
+            line("");
+            line("Открываем карты...");
+            showHands(player, dealer, true);
+            if (outcome == Outcome.DRAW) {
+                line("У обоих игроков Блэкджек. Ничья!");
+            } else if (outcome == Outcome.PLAYER_WIN) {
+                line("У Игрока Блэкджек. Победа!");
+            } else {
+                line("У Дилера Блэкджек. Вы проиграли раунд!");
+            }
+        } else if (player.isBust()) {
+            line("\nПеребор. Вы проиграли раунд!");
+        } else if (dealer.isBust()) {
+            line("Дилер перебрал. Вы выиграли раунд!");
+        } else if (outcome == Outcome.PLAYER_WIN) {
+            line("Вы выиграли раунд!");
+        } else if (outcome == Outcome.DEALER_WIN) {
+            line("Дилер выиграл раунд!");
+        } else {
+            line("Ничья!");
+        }
+
+        String score = "Счёт " + playerWins + ":" + dealerWins;
+        if (outcome == Outcome.PLAYER_WIN) {
+            line(score + " в вашу пользу.");
+        } else if (outcome == Outcome.DEALER_WIN) {
+            line(score + " в пользу дилера.");
+        } else {
+            line(score + ". Ничья раунда.");
+        }
+        flush();
+    }
+
+    @Override
+    public void gameFinished() {
+        line("Спасибо за игру!");
+        flush();
+    }
+
+    private void showHands(Hand player, Hand dealer, boolean showDealerAll) {
+        line("  Ваши карты: " + player.show(false) + " => " + player.value());
+        if (showDealerAll) {
+            line("  Карты дилера: " + dealer.show(false) + " => " + dealer.value());
+        } else {
+            line("  Карты дилера: " + dealer.show(true));
+        }
+    }
+}
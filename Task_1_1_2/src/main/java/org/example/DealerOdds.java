@@ -0,0 +1,199 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Точное распределение итоговой суммы дилера по открытой карте и составу шуза.
+ * Дилер добирает по {@link Rules#dealerHits}: до 17, на мягких 17 стоит.
+ *
+ * <p>Состав шуза — счётчики десяти классов карт по очкам: индекс 0 — тузы,
+ * 1..8 — двойки..девятки, 9 — десятки и картинки ({@link #classOf}). Перебор
+ * добора идёт рекурсивно; результат для каждого состояния запоминается в кеше
+ * с ключом {@code состав * 64 + (жёсткая сумма * 2 + есть туз)}, где состав
+ * упакован в одно {@code long} в смешанной системе счисления с основаниями
+ * {@code максимум класса + 1}. Кеш общий для всех запросов и потоков.
+ */
+final class DealerOdds {
+    /** Индексы распределения: итог 17..21 — {@code total - 17}. */
+    static final int BLACKJACK = 5;
+    static final int BUST = 6;
+    static final int OUTCOMES = 7;
+
+    static final int CLASSES = 10;
+
+    private static final double[][] TERMINAL = new double[OUTCOMES][];
+
+    static {
+        for (int i = 0; i < OUTCOMES; i++) {
+            TERMINAL[i] = new double[OUTCOMES];
+            TERMINAL[i][i] = 1;
+        }
+    }
+
+    private final int decks;
+    private final long[] radix = new long[CLASSES];
+    private final Map<Long, double[]> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param decks число колод, на которое рассчитан шуз (не больше 8,
+     *              чтобы ключ состава поместился в {@code long})
+     */
+    DealerOdds(int decks) {
+        if (decks < 1 || decks > 8) {
+            throw new IllegalArgumentException("Число колод должно быть от 1 до 8: " + decks);
+        }
+        this.decks = decks;
+        long r = 1;
+        for (int c = 0; c < CLASSES; c++) {
+            radix[c] = r;
+            r *= maxCount(c) + 1;
+        }
+    }
+
+    /** Класс карты по коду: 0 — туз, иначе очки минус один. */
+    static int classOf(int code) {
+        return Card.isAce(code) ? 0 : Card.valueOf(code) - 1;
+    }
+
+    /** Состав полного шуза. */
+    int[] fullShoe() {
+        int[] comp = new int[CLASSES];
+        for (int c = 0; c < CLASSES; c++) {
+            comp[c] = maxCount(c);
+        }
+        return comp;
+    }
+
+    /** Состав нерозданной части шуза. */
+    static int[] composition(Deck deck) {
+        int[] comp = new int[CLASSES];
+        for (int i = deck.next; i < deck.shoe.length; i++) {
+            comp[classOf(deck.shoe[i])]++;
+        }
+        return comp;
+    }
+
+    /**
+     * Распределение итога дилера: индексы {@code 0..4} — 17..21 без блэкджека,
+     * {@link #BLACKJACK}, {@link #BUST}. Закрытая карта берётся из {@code composition}.
+     *
+     * @param upcard      код открытой карты дилера
+     * @param composition состав шуза без открытой карты и других известных карт
+     *                    (не изменяется)
+     * @return новый массив из {@link #OUTCOMES} вероятностей
+     */
+    double[] distribution(int upcard, int[] composition) {
+        int[] comp = Arrays.copyOf(composition, CLASSES);
+        int remaining = 0;
+        for (int c = 0; c < CLASSES; c++) {
+            if (comp[c] < 0 || comp[c] > maxCount(c)) {
+                throw new IllegalArgumentException(
+                        "Неверное число карт класса " + c + ": " + comp[c]);
+            }
+            remaining += comp[c];
+        }
+        if (remaining == 0) {
+            throw new IllegalArgumentException("Состав колоды пуст");
+        }
+        long key = key(comp);
+
+        int up = classOf(upcard);
+        double[] result = new double[OUTCOMES];
+        for (int c = 0; c < CLASSES; c++) {
+            if (comp[c] == 0) {
+                continue;
+            }
+            double p = comp[c] / (double) remaining;
+            double[] next;
+            if (up == 0 && c == 9 || up == 9 && c == 0) {
+                next = TERMINAL[BLACKJACK];
+            } else {
+                comp[c]--;
+                next = play(comp, remaining - 1, up + c + 2, up == 0 || c == 0, key - radix[c]);
+                comp[c]++;
+            }
+            for (int i = 0; i < OUTCOMES; i++) {
+                result[i] += p * next[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Ключ состава в смешанной системе счисления: снятие карты класса {@code c}
+     * уменьшает его на {@link #radix(int)}.
+     */
+    long key(int[] composition) {
+        long key = 0;
+        for (int c = 0; c < CLASSES; c++) {
+            key += composition[c] * radix[c];
+        }
+        return key;
+    }
+
+    long radix(int c) {
+        return radix[c];
+    }
+
+    /** Вероятность перебора дилера. */
+    double bust(int upcard, int[] composition) {
+        return distribution(upcard, composition)[BUST];
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * @param hard сумма с тузами за 1
+     * @param ace  в руке есть туз
+     */
+    private double[] play(int[] comp, int remaining, int hard, boolean ace, long key) {
+        int value = ace && hard + 10 <= Rules.BLACKJACK ? hard + 10 : hard;
+        if (value > Rules.BLACKJACK) {
+            return TERMINAL[BUST];
+        }
+        if (value >= Rules.DEALER_STANDS_ON) {
+            return TERMINAL[value - Rules.DEALER_STANDS_ON];
+        }
+        long stateKey = key * 64 + (hard * 2 + (ace ? 1 : 0));
+        double[] cached = cache.get(stateKey);
+        if (cached != null) {
+            return cached;
+        }
+        if (remaining == 0) {
+            throw new IllegalStateException("Колода кончилась раньше, чем дилер остановился");
+        }
+
+        double[] result = new double[OUTCOMES];
+        for (int c = 0; c < CLASSES; c++) {
+            if (comp[c] == 0) {
+                continue;
+            }
+            double p = comp[c] / (double) remaining;
+            comp[c]--;
+            double[] next = play(comp, remaining - 1, hard + c + 1, ace || c == 0,
+                    key - radix[c]);
+            comp[c]++;
+            for (int i = 0; i < OUTCOMES; i++) {
+                result[i] += p * next[i];
+            }
+        }
+        cache.put(stateKey, result);
+        return result;
+    }
+
+    int decks() {
+        return decks;
+    }
+
+    int maxCount(int c) {
+        return (c == 9 ? 16 : 4) * decks;
+    }
+}
@@ -1,35 +1,80 @@
 package org.example;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.SplittableRandom;
 
+/**
+ * Шуз из одной или нескольких колод в виде массива кодов карт {@link Card#encode}:
+ * раздача сдвигает указатель, без удаления из списка. Пластиковая карта отсечки
+ * лежит на доле {@code penetration} шуза; дойдя до неё, {@link Game} перемешивает
+ * шуз перед следующим раундом. Перемешивание — проход Фишера–Йетса на месте,
+ * без выделения памяти.
+ */
 class Deck {
-    List<Card> cards = new ArrayList<>();
+    int[] shoe;
+    int next;
+    int cut;
+    SplittableRandom random;
 
+    /** Одна колода, раздаётся до конца. */
     Deck() {
+        this(1, 1.0, new SplittableRandom());
+    }
+
+    /**
+     * @param decks       число колод в шузе
+     * @param penetration доля шуза до карты отсечки, {@code (0, 1]}
+     * @param random      генератор для перемешивания
+     */
+    Deck(int decks, double penetration, SplittableRandom random) {
+        if (decks < 1) {
+            throw new IllegalArgumentException("Число колод должно быть положительным: " + decks);
+        }
+        if (!(penetration > 0 && penetration <= 1)) {
+            throw new IllegalArgumentException(
+                    "Доля до карты отсечки должна быть в (0, 1]: " + penetration);
+        }
+        this.shoe = new int[Card.CODES * decks];
+        this.cut = Math.max(1, (int) Math.round(shoe.length * penetration));
+        this.random = random;
         build();
         shuffle();
     }
 
     void build() {
-        cards.clear();
-        for (Suit s : Suit.values()) {
-            for (Rank r : Rank.values()) {
-                cards.add(new Card(s.label(), r.label(), r.value()));
-            }
+        for (int i = 0; i < shoe.length; i++) {
+            shoe[i] = i % Card.CODES;
         }
+        next = 0;
     }
 
+    /** Возвращает в шуз все карты и перемешивает его. */
     void shuffle() {
-        Collections.shuffle(cards);
+        for (int i = shoe.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = shoe[i];
+            shoe[i] = shoe[j];
+            shoe[j] = t;
+        }
+        next = 0;
     }
 
-    Card deal() {
-        if (cards.isEmpty()) {
-            build();
+    int remaining() {
+        return shoe.length - next;
+    }
+
+    /** Раздача дошла до карты отсечки. */
+    boolean cutCardReached() {
+        return next >= cut;
+    }
+
+    int dealCode() {
+        if (next == shoe.length) {
             shuffle();
         }
-        return cards.remove(cards.size() - 1);
+        return shoe[next++];
+    }
+
+    Card deal() {
+        return Card.of(dealCode());
     }
-}
\ No newline at end of file
+}
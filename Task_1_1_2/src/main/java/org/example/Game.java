@@ -2,191 +2,160 @@ package org.example;
 
 import java.util.Scanner;
 
+/**
+ * Раунды блэкджека как конечный автомат: {@link #startRound()} раздаёт карты,
+ * затем в фазе {@link Phase#PLAYER_TURN} вызываются {@link #hit()} и {@link #stand()},
+ * пока раунд не перейдёт в {@link Phase#ROUND_OVER}. Сам автомат ничего не читает
+ * и не печатает: о каждом шаге сообщается {@link Renderer}, а решения в
+ * {@link #playRound()} и {@link #run()} берутся из {@link PlayerInput}.
+ */
 class Game {
-    Deck deck = new Deck();
-    Scanner in = new Scanner(System.in);
+    enum Phase {
+        WAITING,
+        PLAYER_TURN,
+        ROUND_OVER
+    }
+
+    Deck deck;
+    Scanner in;
+
+    final Renderer renderer;
+    final PlayerInput input;
+
+    final Hand player = new Hand();
+    final Hand dealer = new Hand();
+    Phase phase = Phase.WAITING;
+    Outcome outcome;
 
     int round = 0;
     int playerWins = 0;
     int dealerWins = 0;
     int draws = 0;
 
-    void run() {
-        System.out.println("Добро пожаловать в Блэкджек!");
-        boolean again = true;
-        while (again) {
-            round++;
-            System.out.println();
-            System.out.println("Раунд " + round);
-            playRound();
-            System.out.println();
-            System.out.print("Сыграть ещё раунд? (y/n): ");
-            again = askYesNo();
-        }
-        System.out.println("Спасибо за игру!");
+    /** Консольная игра: ввод из {@link #in}, буферизованный вывод в {@code System.out}. */
+    Game() {
+        this.deck = new Deck();
+        this.in = new Scanner(System.in);
+        ConsoleRenderer console = new ConsoleRenderer();
+        this.renderer = console;
+        this.input = new ConsoleInput(() -> in, console);
     }
 
-    void playRound() {
-        Hand player = new Hand();
-        Hand dealer = new Hand();
+    /** Игра, управляемая вызовами {@link #startRound()}, {@link #hit()} и {@link #stand()}. */
+    Game(Deck deck, Renderer renderer) {
+        this(deck, null, renderer);
+    }
 
-        initialDeal(player, dealer);
-        if (handleImmediateBlackjacks(player, dealer)) {
-            return;
-        }
+    Game(Deck deck, PlayerInput input, Renderer renderer) {
+        this.deck = deck;
+        this.input = input;
+        this.renderer = renderer;
+    }
 
-        System.out.println();
-        System.out.println("Ваш ход");
-        System.out.println("-------");
+    void run() {
+        renderer.gameStarted();
+        do {
+            playRound();
+        } while (input.playAgain());
+        renderer.gameFinished();
+    }
 
-        boolean playerBust = playerTurn(player, dealer);
-        if (playerBust) {
-            System.out.println("\nПеребор. Вы проиграли раунд!");
-            dealerWins++;
-            printScore("dealer");
-            return;
+    /** Играет раунд целиком, спрашивая решения у {@link #input}. */
+    void playRound() {
+        startRound();
+        int upcard = dealer.card(0).code;
+        while (phase == Phase.PLAYER_TURN) {
+            if (input.hit(player, upcard)) {
+                hit();
+            } else {
+                stand();
+            }
         }
-
-        dealerTurn(dealer, player);
-        settleRound(player, dealer);
     }
 
-    // --- helpers ---
+    /**
+     * Раздаёт карты, перемешав шуз, если раздача дошла до карты отсечки;
+     * при блэкджеке раунд сразу завершается.
+     */
+    void startRound() {
+        if (phase == Phase.PLAYER_TURN) {
+            throw new IllegalStateException("Раунд ещё не окончен");
+        }
+        if (deck.cutCardReached()) {
+            deck.shuffle();
+        }
+        player.clear();
+        dealer.clear();
+        outcome = null;
+        round++;
+        renderer.roundStarted(round);
 
-    void initialDeal(Hand player, Hand dealer) {
         player.add(deck.deal());
         dealer.add(deck.deal());
         player.add(deck.deal());
         dealer.add(deck.deal());
+        renderer.dealt(player, dealer);
 
-        System.out.println("Дилер раздал карты");
-        showHands(player, dealer, false);
-    }
-
-    boolean handleImmediateBlackjacks(Hand player, Hand dealer) {
-        boolean playerBlackjack = player.isBlackJack();
-        boolean dealerBlackjack = dealer.isBlackJack();
-        if (!playerBlackjack && !dealerBlackjack) {
-            return false;
-        }
-
-        System.out.println();
-        System.out.println("Открываем карты...");
-        showHands(player, dealer, true);
-
-        if (playerBlackjack && dealerBlackjack) {
-            System.out.println("У обоих игроков Блэкджек. Ничья!");
-            draws++;
-            printScore("draw");
-        } else if (playerBlackjack) {
-            System.out.println("У Игрока Блэкджек. Победа!");
-            playerWins++;
-            printScore("player");
-        } else {
-            System.out.println("У Дилера Блэкджек. Вы проиграли раунд!");
-            dealerWins++;
-            printScore("dealer");
+        Outcome immediate = Rules.immediateOutcome(player, dealer);
+        if (immediate != null) {
+            finish(immediate);
+            return;
         }
-        return true;
+        phase = Phase.PLAYER_TURN;
+        renderer.playerTurnStarted(player, dealer);
     }
 
-    boolean playerTurn(Hand player, Hand dealer) {
-        boolean playerBust = false;
-        while (true) {
-            System.out.println("Введите 1 - взять, 0 - стоп: ");
-            String s = in.nextLine().trim();
-
-            if (s.equals("1")) {
-                Card c = deck.deal();
-                player.add(c);
-                System.out.println("Вы открыли карту: " + c);
-                showHands(player, dealer, false);
-                if (player.isBust()) {
-                    playerBust = true;
-                    break;
-                }
-                if (player.value() == 21) {
-                    System.out.println("У вас 21. Стоп.");
-                    break;
-                }
-            } else if (s.equals("0")) {
-                break;
-            } else {
-                System.out.println("Неверный ввод.");
-            }
+    /** Игрок берёт карту; на переборе раунд проигран, на 21 ход переходит к дилеру. */
+    void hit() {
+        requirePlayerTurn();
+        Card c = deck.deal();
+        player.add(c);
+        renderer.playerHit(c, player, dealer);
+        if (player.isBust()) {
+            renderer.playerBusted(player, dealer);
+            finish(Outcome.DEALER_WIN);
+        } else if (Rules.playerDone(player)) {
+            renderer.playerStood(player, dealer, true);
+            dealerTurn();
         }
-        return playerBust;
     }
 
-    void dealerTurn(Hand dealer, Hand player) {
-        System.out.println("\nХод Дилера");
-        System.out.println("-------");
-        System.out.println("Дилер открывает закрытую карту: " + dealer.list.get(1));
-        showHands(player, dealer, true);
+    /** Игрок останавливается, ход переходит к дилеру. */
+    void stand() {
+        requirePlayerTurn();
+        renderer.playerStood(player, dealer, false);
+        dealerTurn();
+    }
 
-        while (dealer.value() < 17) {
+    private void dealerTurn() {
+        renderer.dealerRevealed(player, dealer);
+        while (Rules.dealerHits(dealer)) {
             Card c = deck.deal();
             dealer.add(c);
-            System.out.println("Дилер открывает карту " + c);
-            showHands(player, dealer, true);
+            renderer.dealerHit(c, player, dealer);
         }
+        if (dealer.isBust()) {
+            renderer.dealerBusted(player, dealer);
+        }
+        finish(Rules.settle(player, dealer));
     }
 
-    void settleRound(Hand player, Hand dealer) {
-        int p = player.value();
-        int d = dealer.value();
-
-        if (dealer.isBust()) {
-            System.out.println("Дилер перебрал. Вы выиграли раунд!");
-            playerWins++;
-            printScore("player");
-        } else if (p > d) {
-            System.out.println("Вы выиграли раунд!");
+    private void finish(Outcome result) {
+        outcome = result;
+        phase = Phase.ROUND_OVER;
+        if (result == Outcome.PLAYER_WIN) {
             playerWins++;
-            printScore("player");
-        } else if (p < d) {
-            System.out.println("Дилер выиграл раунд!");
+        } else if (result == Outcome.DEALER_WIN) {
             dealerWins++;
-            printScore("dealer");
         } else {
-            System.out.println("Ничья!");
             draws++;
-            printScore("draw");
-        }
-    }
-
-    void showHands(Hand player, Hand dealer, boolean showDealerAll) {
-        System.out.println("  Ваши карты: " + player.show(false) + " => " + player.value());
-        if (showDealerAll) {
-            System.out.println(
-                    "  Карты дилера: " + dealer.show(false) + " => " + dealer.value()
-            );
-        } else {
-            System.out.println("  Карты дилера: " + dealer.show(true));
         }
+        renderer.settled(result, player, dealer, playerWins, dealerWins, draws);
     }
 
-    boolean askYesNo() {
-        while (true) {
-            String s = in.nextLine().trim().toLowerCase();
-            if (s.startsWith("y") || s.startsWith("д")) {
-                return true;
-            }
-            if (s.startsWith("n") || s.startsWith("н")) {
-                return false;
-            }
-            System.out.print("Введите y/n: ");
-        }
-    }
-
-    void printScore(String who) {
-        String score = "Счёт " + playerWins + ":" + dealerWins;
-        if ("player".equals(who)) {
-            System.out.println(score + " в вашу пользу.");
-        } else if ("dealer".equals(who)) {
-            System.out.println(score + " в пользу дилера.");
-        } else {
-            System.out.println(score + ". Ничья раунда.");
+    private void requirePlayerTurn() {
+        if (phase != Phase.PLAYER_TURN) {
+            throw new IllegalStateException("Сейчас не ход игрока: " + phase);
         }
     }
-}
\ No newline at end of file
+}
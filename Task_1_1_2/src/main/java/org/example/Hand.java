@@ -1,54 +1,81 @@
 package org.example;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
+/**
+ * Рука. Сумма очков и число тузов, считающихся за 11, обновляются при каждом
+ * добавлении карты, поэтому {@link #value()} и {@link #isBust()} работают за O(1).
+ */
 class Hand {
-    List<Card> list = new ArrayList<>();
+    private Card[] cards = new Card[12];
+    private int size;
+    private int total;
+    private int softAces;
 
     void add(Card card) {
-        list.add(card);
+        if (size == cards.length) {
+            cards = Arrays.copyOf(cards, size * 2);
+        }
+        cards[size++] = card;
+        total += card.value;
+        if (card.isAce()) {
+            softAces++;
+        }
+        while (total > 21 && softAces > 0) {
+            total -= 10;
+            softAces--;
+        }
     }
 
-    int value() {
-        int sum = 0;
-        int aceCount = 0;
-        for (int i = 0; i < list.size(); i++) {
-            Card c = list.get(i);
-            sum += c.value;
-            if ("Туз".equals(c.rank)) {
-                aceCount++;
-            }
-        }
-        while (aceCount > 0 && sum > 21) {
-            sum -= 10;
-            aceCount--;
+    void clear() {
+        Arrays.fill(cards, 0, size, null);
+        size = 0;
+        total = 0;
+        softAces = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Card card(int i) {
+        if (i >= size) {
+            throw new IndexOutOfBoundsException(i);
         }
-        return sum;
+        return cards[i];
+    }
+
+    int value() {
+        return total;
+    }
+
+    /** Есть туз, который считается за 11. */
+    boolean isSoft() {
+        return softAces > 0;
     }
 
     boolean isBust() {
-        return value() > 21;
+        return total > 21;
     }
 
     boolean isBlackJack() {
-        return list.size() == 2 && value() == 21;
+        return size == 2 && total == 21;
     }
 
     String show(boolean hideSecond) {
         StringBuilder sb = new StringBuilder();
         sb.append("[");
-        for (int i = 0; i < list.size(); i++) {
+        for (int i = 0; i < size; i++) {
             if (hideSecond && i == 1) {
                 sb.append("<закрытая карта>");
             } else {
-                sb.append(list.get(i).toString());
+                sb.append(cards[i].toString());
             }
-            if (i != list.size() - 1) {
+            if (i != size - 1) {
                 sb.append(", ");
             }
         }
         sb.append("]");
         return sb.toString();
     }
-}
\ No newline at end of file
+}
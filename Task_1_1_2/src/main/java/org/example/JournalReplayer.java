@@ -0,0 +1,203 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Проигрывает {@link RoundJournal}: заново применяет {@link Rules} к записанным картам
+ * и решениям, проверяет каждый записанный итог и восстанавливает счёт.
+ * Файл читается через отображение в память окнами, без промежуточных объектов
+ * на раунд, поэтому проверка идёт со скоростью в миллионы раундов в секунду.
+ */
+final class JournalReplayer {
+    private static final int WINDOW_BYTES = 1 << 28;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowBytes;
+    private final Hand player = new Hand();
+    private final Hand dealer = new Hand();
+    private MappedByteBuffer buf;
+    private long base;
+
+    private long rounds;
+    private long playerWins;
+    private long dealerWins;
+    private long draws;
+
+    private JournalReplayer(FileChannel channel, int windowBytes) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowBytes = windowBytes;
+        map(0);
+    }
+
+    /** Счёт, восстановленный по журналу. */
+    static final class Scores {
+        final long rounds;
+        final long playerWins;
+        final long dealerWins;
+        final long draws;
+
+        Scores(long rounds, long playerWins, long dealerWins, long draws) {
+            this.rounds = rounds;
+            this.playerWins = playerWins;
+            this.dealerWins = dealerWins;
+            this.draws = draws;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Раундов: %d, победы: %d, поражения: %d, ничьи: %d",
+                    rounds, playerWins, dealerWins, draws);
+        }
+    }
+
+    static Scores replay(Path file) throws IOException {
+        return replay(file, WINDOW_BYTES);
+    }
+
+    /**
+     * Проигрывает журнал целиком.
+     *
+     * @param file        файл журнала
+     * @param windowBytes размер окна отображения, байт
+     * @return восстановленный счёт
+     * @throws IOException при ошибке чтения, повреждённой записи или итоге,
+     *                     не совпадающем с правилами
+     */
+    static Scores replay(Path file, int windowBytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            JournalReplayer replayer = new JournalReplayer(channel, windowBytes);
+            replayer.header();
+            replayer.rounds();
+            return new Scores(replayer.rounds, replayer.playerWins,
+                    replayer.dealerWins, replayer.draws);
+        }
+    }
+
+    private void header() throws IOException {
+        for (byte b : RoundJournal.MAGIC) {
+            if (position() >= size || get() != b) {
+                throw new IOException("Файл не является журналом раундов");
+            }
+        }
+    }
+
+    private void rounds() throws IOException {
+        while (position() < size) {
+            int tag = get();
+            if (tag == 0) {
+                // хвост окна, не обрезанный при аварийном завершении записи
+                return;
+            }
+            expect(tag, RoundJournal.DEAL);
+            player.clear();
+            dealer.clear();
+            player.add(card());
+            dealer.add(card());
+            player.add(card());
+            dealer.add(card());
+            Outcome outcome = Rules.immediateOutcome(player, dealer);
+            if (outcome == null) {
+                outcome = playerTurn();
+            }
+            expect(get(), RoundJournal.SETTLE);
+            int recorded = varint() - 1;
+            if (recorded != outcome.ordinal()) {
+                throw corrupt("записан итог " + recorded + ", по правилам " + outcome);
+            }
+            if (outcome == Outcome.PLAYER_WIN) {
+                playerWins++;
+            } else if (outcome == Outcome.DEALER_WIN) {
+                dealerWins++;
+            } else {
+                draws++;
+            }
+            rounds++;
+        }
+    }
+
+    private Outcome playerTurn() throws IOException {
+        while (!Rules.playerDone(player)) {
+            int tag = get();
+            if (tag == RoundJournal.STAND) {
+                break;
+            }
+            expect(tag, RoundJournal.HIT);
+            player.add(card());
+        }
+        if (player.isBust()) {
+            return Outcome.DEALER_WIN;
+        }
+        while (Rules.dealerHits(dealer)) {
+            expect(get(), RoundJournal.DEALER_HIT);
+            dealer.add(card());
+        }
+        return Rules.settle(player, dealer);
+    }
+
+    private Card card() throws IOException {
+        int code = varint() - 1;
+        if (code < 0 || code >= Card.CODES) {
+            throw corrupt("неверный код карты " + code);
+        }
+        return Card.of(code);
+    }
+
+    private int varint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw corrupt("слишком длинный varint");
+    }
+
+    private void expect(int tag, int expected) throws IOException {
+        if (tag != expected) {
+            throw corrupt("ожидался тег " + expected + ", получен " + tag);
+        }
+    }
+
+    private int get() throws IOException {
+        if (!buf.hasRemaining()) {
+            if (position() >= size) {
+                throw corrupt("неожиданный конец журнала");
+            }
+            map(position());
+        }
+        return buf.get() & 0xFF;
+    }
+
+    private long position() {
+        return base + buf.position();
+    }
+
+    private void map(long position) throws IOException {
+        base = position;
+        long length = Math.min(windowBytes, size - position);
+        buf = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    private IOException corrupt(String message) {
+        return new IOException("Журнал повреждён на смещении " + position()
+                + " (раунд " + (rounds + 1) + "): " + message);
+    }
+
+    /** {@code replay <файл>}: проверяет журнал и печатает счёт. */
+    static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "rounds.bjl");
+        long start = System.nanoTime();
+        Scores scores = replay(file);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s; проверено за %.2f с, %.0f раундов/с%n",
+                scores, seconds, scores.rounds / seconds);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * События игры в формате JSON Lines: один объект на строку, например
+ * <pre>{"event":"hit","round":3,"card":37,"player":[4,21,37],"playerTotal":19}</pre>
+ * Карты записываются кодами {@link Card#encode}. Закрытая карта дилера до его хода
+ * не выводится. Поток сбрасывается в конце каждого раунда.
+ */
+class JsonLinesRenderer implements Renderer {
+    private final Writer out;
+    private final StringBuilder buf = new StringBuilder(256);
+    private int round;
+
+    JsonLinesRenderer(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void gameStarted() {
+        emit(begin("gameStart"));
+    }
+
+    @Override
+    public void roundStarted(int round) {
+        this.round = round;
+        emit(begin("roundStart"));
+    }
+
+    @Override
+    public void dealt(Hand player, Hand dealer) {
+        StringBuilder sb = begin("deal");
+        player(sb, player);
+        sb.append(",\"dealerUpcard\":").append(dealer.card(0).code);
+        emit(sb);
+    }
+
+    @Override
+    public void playerHit(Card card, Hand player, Hand dealer) {
+        StringBuilder sb = begin("hit").append(",\"card\":").append(card.code);
+        emit(player(sb, player));
+    }
+
+    @Override
+    public void playerStood(Hand player, Hand dealer, boolean automatic) {
+        StringBuilder sb = begin("stand").append(",\"automatic\":").append(automatic);
+        emit(player(sb, player));
+    }
+
+    @Override
+    public void playerBusted(Hand player, Hand dealer) {
+        emit(player(begin("bust"), player));
+    }
+
+    @Override
+    public void dealerRevealed(Hand player, Hand dealer) {
+        emit(dealer(begin("dealerReveal"), dealer));
+    }
+
+    @Override
+    public void dealerHit(Card card, Hand player, Hand dealer) {
+        StringBuilder sb = begin("dealerHit").append(",\"card\":").append(card.code);
+        emit(dealer(sb, dealer));
+    }
+
+    @Override
+    public void dealerBusted(Hand player, Hand dealer) {
+        emit(dealer(begin("dealerBust"), dealer));
+    }
+
+    @Override
+    public void settled(Outcome outcome, Hand player, Hand dealer,
+                        int playerWins, int dealerWins, int draws) {
+        StringBuilder sb = begin("settle").append(",\"outcome\":\"").append(outcome).append('"');
+        player(sb, player);
+        dealer(sb, dealer);
+        sb.append(",\"playerWins\":").append(playerWins)
+                .append(",\"dealerWins\":").append(dealerWins)
+                .append(",\"draws\":").append(draws);
+        emit(sb);
+        flush();
+    }
+
+    @Override
+    public void gameFinished() {
+        emit(begin("gameEnd"));
+        flush();
+    }
+
+    private StringBuilder begin(String event) {
+        buf.setLength(0);
+        buf.append("{\"event\":\"").append(event).append('"');
+        if (round > 0) {
+            buf.append(",\"round\":").append(round);
+        }
+        return buf;
+    }
+
+    private static StringBuilder player(StringBuilder sb, Hand player) {
+        cards(sb.append(",\"player\":"), player);
+        return sb.append(",\"playerTotal\":").append(player.value());
+    }
+
+    private static StringBuilder dealer(StringBuilder sb, Hand dealer) {
+        cards(sb.append(",\"dealer\":"), dealer);
+        return sb.append(",\"dealerTotal\":").append(dealer.value());
+    }
+
+    private static void cards(StringBuilder sb, Hand hand) {
+        sb.append('[');
+        for (int i = 0; i < hand.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(hand.card(i).code);
+        }
+        sb.append(']');
+    }
+
+    private void emit(StringBuilder sb) {
+        try {
+            out.append(sb.append('}')).append('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
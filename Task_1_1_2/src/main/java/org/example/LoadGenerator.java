@@ -0,0 +1,169 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Нагрузочный клиент для {@link BlackjackServer}: открывает {@code sessions} подключений
+ * одновременно, в каждом играет {@code rounds} раундов стратегией «стоп на 17» и
+ * замеряет время ответа на решения игрока — {@code HIT} и {@code STAND}; раздача
+ * {@code DEAL} в задержки не входит. Каждая сессия копит задержки в своём массиве,
+ * общий отчёт собирается после завершения всех сессий.
+ */
+final class LoadGenerator {
+    private static final int STAND_ON = 17;
+    private static final String DEAL = "DEAL";
+
+    private LoadGenerator() {
+    }
+
+    /** Итоги нагрузки. */
+    static final class Report {
+        final int sessions;
+        final int failedSessions;
+        final long rounds;
+        final long nanos;
+        private final long[] latencies;
+
+        Report(int sessions, int failedSessions, long rounds, long nanos, long[] latencies) {
+            this.sessions = sessions;
+            this.failedSessions = failedSessions;
+            this.rounds = rounds;
+            this.nanos = nanos;
+            this.latencies = latencies;
+            Arrays.sort(latencies);
+        }
+
+        double roundsPerSecond() {
+            return nanos == 0 ? 0 : rounds * 1e9 / nanos;
+        }
+
+        /** Число замеренных решений {@code HIT} и {@code STAND}. */
+        long decisions() {
+            return latencies.length;
+        }
+
+        /** Перцентиль задержки ответа, нс; {@code q} из {@code (0, 1]}. */
+        long latencyPercentile(double q) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int i = (int) Math.ceil(q * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(i, latencies.length - 1))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Сессий: %d (ошибок %d), раундов: %d за %.2f с, %.0f раундов/с; "
+                            + "решений: %d, p50 %.1f мкс, p99 %.1f мкс",
+                    sessions, failedSessions, rounds, nanos / 1e9, roundsPerSecond(),
+                    decisions(), latencyPercentile(0.5) / 1e3, latencyPercentile(0.99) / 1e3);
+        }
+    }
+
+    static Report run(String host, int port, int sessions, int rounds)
+            throws InterruptedException {
+        ExecutorService pool = BlackjackServer.newSessionExecutor();
+        long start = System.nanoTime();
+        try {
+            List<Future<long[]>> results = new ArrayList<>(sessions);
+            for (int s = 0; s < sessions; s++) {
+                results.add(pool.submit(() -> session(host, port, rounds)));
+            }
+            int failed = 0;
+            long played = 0;
+            long[][] parts = new long[sessions][];
+            int total = 0;
+            for (int s = 0; s < sessions; s++) {
+                try {
+                    parts[s] = results.get(s).get();
+                    played += rounds;
+                    total += parts[s].length;
+                } catch (ExecutionException e) {
+                    failed++;
+                    parts[s] = new long[0];
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            long[] all = new long[total];
+            int off = 0;
+            for (long[] part : parts) {
+                System.arraycopy(part, 0, all, off, part.length);
+                off += part.length;
+            }
+            return new Report(sessions, failed, played, nanos, all);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** Одна сессия; возвращает задержки ответов на {@code HIT} и {@code STAND}, нс. */
+    private static long[] session(String host, int port, int rounds) throws IOException {
+        long[] latencies = new long[Math.max(16, rounds * 2)];
+        int n = 0;
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(
+                     socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            expect(in.readLine(), BlackjackServer.GREETING);
+            for (int r = 0; r < rounds; r++) {
+                String command = DEAL;
+                while (true) {
+                    long t0 = System.nanoTime();
+                    out.write(command);
+                    out.write('\n');
+                    out.flush();
+                    String reply = in.readLine();
+                    long latency = System.nanoTime() - t0;
+                    if (!DEAL.equals(command)) {
+                        if (n == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, n * 2);
+                        }
+                        latencies[n++] = latency;
+                    }
+                    if (reply == null || reply.startsWith("ERR")) {
+                        throw new IOException("Неожиданный ответ на " + command + ": " + reply);
+                    }
+                    if (reply.startsWith("DONE")) {
+                        break;
+                    }
+                    int total = Integer.parseInt(reply.split(" ")[1]);
+                    command = total < STAND_ON ? "HIT" : "STAND";
+                }
+            }
+            out.write("QUIT\n");
+            out.flush();
+            expect(in.readLine(), "BYE");
+        }
+        return Arrays.copyOf(latencies, n);
+    }
+
+    private static void expect(String actual, String expected) throws IOException {
+        if (!expected.equals(actual)) {
+            throw new IOException("Ожидалось '" + expected + "', получено '" + actual + "'");
+        }
+    }
+
+    /** {@code load [хост] [порт] [сессии] [раунды на сессию]}. */
+    static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7021;
+        int sessions = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+        System.out.println(run(host, port, sessions, rounds));
+    }
+}
@@ -1,9 +1,40 @@
 package org.example;
 
-/** Entry point for the Blackjack console application. */
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Entry point for the Blackjack console application.
+ * Without arguments starts an interactive game; the first argument may select
+ * another mode: {@code simulate}, {@code strategy}, {@code server}, {@code load},
+ * {@code record} or {@code replay}.
+ */
 public class Main {
-    public static void main(String[] args) {
-        Game game = new Game();
-        game.run();
+    public static void main(String[] args) throws InterruptedException, IOException {
+        String mode = args.length > 0 ? args[0] : "";
+        String[] rest = args.length > 0 ? Arrays.copyOfRange(args, 1, args.length) : args;
+        switch (mode) {
+            case "simulate":
+                Simulator.main(rest);
+                return;
+            case "strategy":
+                StrategySolver.main(rest);
+                return;
+            case "server":
+                BlackjackServer.main(rest);
+                return;
+            case "load":
+                LoadGenerator.main(rest);
+                return;
+            case "record":
+                RoundJournal.main(rest);
+                return;
+            case "replay":
+                JournalReplayer.main(rest);
+                return;
+            default:
+                Game game = new Game();
+                game.run();
+        }
     }
-}
\ No newline at end of file
+}
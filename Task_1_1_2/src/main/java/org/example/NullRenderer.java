@@ -0,0 +1,9 @@
+package org.example;
+
+/** Ничего не выводит: для симуляции и замеров. */
+final class NullRenderer implements Renderer {
+    static final NullRenderer INSTANCE = new NullRenderer();
+
+    private NullRenderer() {
+    }
+}
@@ -0,0 +1,19 @@
+package org.example;
+
+/** Итог раунда с точки зрения игрока. */
+enum Outcome {
+    PLAYER_WIN(1),
+    DEALER_WIN(-1),
+    DRAW(0);
+
+    private final int payoff;
+
+    Outcome(int payoff) {
+        this.payoff = payoff;
+    }
+
+    /** Выигрыш игрока при ставке 1. */
+    int payoff() {
+        return payoff;
+    }
+}
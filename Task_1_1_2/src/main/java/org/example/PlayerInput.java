@@ -0,0 +1,25 @@
+package org.example;
+
+/** Источник решений игрока для {@link Game#run()}. */
+interface PlayerInput extends Strategy {
+
+    /** Играть ли следующий раунд. */
+    boolean playAgain();
+
+    /** Играет {@code rounds} раундов по стратегии, ни о чём не спрашивая. */
+    static PlayerInput auto(Strategy strategy, long rounds) {
+        return new PlayerInput() {
+            private long played;
+
+            @Override
+            public boolean hit(Hand player, int dealerUpcard) {
+                return strategy.hit(player, dealerUpcard);
+            }
+
+            @Override
+            public boolean playAgain() {
+                return ++played < rounds;
+            }
+        };
+    }
+}
@@ -23,6 +23,15 @@ enum Rank {
         this.value = value;
     }
 
+    static Rank byLabel(String label) {
+        for (Rank x : values()) {
+            if (x.label.equals(label)) {
+                return x;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный ранг: " + label);
+    }
+
     String label() {
         return label;
     }
@@ -0,0 +1,49 @@
+package org.example;
+
+/**
+ * Получатель событий игры. Руки передаются по ссылке и переиспользуются между
+ * раундами, поэтому сохранять их нельзя. Все методы по умолчанию ничего не делают.
+ */
+interface Renderer {
+
+    default void gameStarted() {
+    }
+
+    default void roundStarted(int round) {
+    }
+
+    /** Начальная раздача; вторая карта дилера закрыта. */
+    default void dealt(Hand player, Hand dealer) {
+    }
+
+    default void playerTurnStarted(Hand player, Hand dealer) {
+    }
+
+    default void playerHit(Card card, Hand player, Hand dealer) {
+    }
+
+    /** @param automatic игрок остановился сам, потому что набрал 21 */
+    default void playerStood(Hand player, Hand dealer, boolean automatic) {
+    }
+
+    default void playerBusted(Hand player, Hand dealer) {
+    }
+
+    /** Дилер открыл закрытую карту. */
+    default void dealerRevealed(Hand player, Hand dealer) {
+    }
+
+    default void dealerHit(Card card, Hand player, Hand dealer) {
+    }
+
+    default void dealerBusted(Hand player, Hand dealer) {
+    }
+
+    /** Раунд завершён; счёт уже учитывает его итог. */
+    default void settled(Outcome outcome, Hand player, Hand dealer,
+                         int playerWins, int dealerWins, int draws) {
+    }
+
+    default void gameFinished() {
+    }
+}
@@ -0,0 +1,204 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+/**
+ * Двоичный журнал раундов: каждая раздача, каждое решение игрока, каждый добор
+ * дилера и итог. Подключается к {@link Game} как {@link Renderer}.
+ *
+ * <p>Формат: заголовок {@code "BJL1"}, затем записи «тег, аргументы», все числа —
+ * varint (LEB128): {@link #DEAL} и четыре карты в порядке раздачи (игрок, дилер,
+ * игрок, дилер), {@link #HIT} и карта, {@link #STAND} (только по решению игрока;
+ * остановка на 21 подразумевается), {@link #DEALER_HIT} и карта, {@link #SETTLE}
+ * и итог. Карта записывается как код + 1, итог — как {@code ordinal() + 1}, так что
+ * нулевых байтов в данных нет: по ним при открытии находится конец журнала, если
+ * процесс завершился, не обрезав файл.
+ *
+ * <p>Файл пишется только в конец через отображение в память окнами по
+ * {@code chunkBytes}; при закрытии лишний хвост окна обрезается.
+ */
+final class RoundJournal implements Renderer, Closeable {
+    static final byte[] MAGIC = {'B', 'J', 'L', '1'};
+
+    static final int DEAL = 1;
+    static final int HIT = 2;
+    static final int STAND = 3;
+    static final int DEALER_HIT = 4;
+    static final int SETTLE = 5;
+
+    static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final int chunkBytes;
+    private MappedByteBuffer buf;
+    private long base;
+
+    RoundJournal(Path file) throws IOException {
+        this(file, DEFAULT_CHUNK_BYTES);
+    }
+
+    /**
+     * Открывает журнал для дописывания, создавая его при необходимости.
+     *
+     * @param file       файл журнала
+     * @param chunkBytes размер окна отображения, байт
+     * @throws IOException при ошибке ввода-вывода или если файл — не журнал
+     */
+    RoundJournal(Path file, int chunkBytes) throws IOException {
+        if (chunkBytes < MAGIC.length) {
+            throw new IllegalArgumentException("Окно отображения слишком мало: " + chunkBytes);
+        }
+        this.chunkBytes = chunkBytes;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long end = dataEnd(channel);
+            map(end);
+            if (end == 0) {
+                buf.put(MAGIC);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Позиция за последним записанным байтом. */
+    long size() {
+        return base + buf.position();
+    }
+
+    /** Сбрасывает записанное на диск. */
+    void flush() {
+        buf.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        long size = size();
+        buf.force();
+        channel.truncate(size);
+        channel.close();
+    }
+
+    @Override
+    public void dealt(Hand player, Hand dealer) {
+        put(DEAL);
+        card(player.card(0));
+        card(dealer.card(0));
+        card(player.card(1));
+        card(dealer.card(1));
+    }
+
+    @Override
+    public void playerHit(Card card, Hand player, Hand dealer) {
+        put(HIT);
+        card(card);
+    }
+
+    @Override
+    public void playerStood(Hand player, Hand dealer, boolean automatic) {
+        if (!automatic) {
+            put(STAND);
+        }
+    }
+
+    @Override
+    public void dealerHit(Card card, Hand player, Hand dealer) {
+        put(DEALER_HIT);
+        card(card);
+    }
+
+    @Override
+    public void settled(Outcome outcome, Hand player, Hand dealer,
+                        int playerWins, int dealerWins, int draws) {
+        put(SETTLE);
+        varint(outcome.ordinal() + 1);
+    }
+
+    private void card(Card card) {
+        varint(card.code + 1);
+    }
+
+    private void varint(int value) {
+        while ((value & ~0x7F) != 0) {
+            put((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        put(value);
+    }
+
+    private void put(int b) {
+        if (!buf.hasRemaining()) {
+            try {
+                map(base + buf.capacity());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        buf.put((byte) b);
+    }
+
+    private void map(long position) throws IOException {
+        base = position;
+        buf = channel.map(FileChannel.MapMode.READ_WRITE, position, chunkBytes);
+    }
+
+    /**
+     * Конец данных: длина файла без хвостовых нулей недообрезанного окна.
+     * Заголовок проверяется, если файл не пуст.
+     */
+    private static long dataEnd(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+        ByteBuffer header = ByteBuffer.allocate(MAGIC.length);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // читаем заголовок целиком
+        }
+        if (header.hasRemaining() || !header.flip().equals(ByteBuffer.wrap(MAGIC))) {
+            throw new IOException("Файл не является журналом раундов");
+        }
+        ByteBuffer block = ByteBuffer.allocate(64 * 1024);
+        long end = size;
+        while (end > MAGIC.length) {
+            long from = Math.max(MAGIC.length, end - block.capacity());
+            block.clear().limit((int) (end - from));
+            while (block.hasRemaining()) {
+                if (channel.read(block, from + block.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = block.position() - 1; i >= 0; i--) {
+                if (block.get(i) != 0) {
+                    return from + i + 1;
+                }
+            }
+            end = from;
+        }
+        return MAGIC.length;
+    }
+
+    /** {@code record <файл> [раунды] [колоды]}: пишет раунды стратегии «стоп на 17». */
+    static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "rounds.bjl");
+        long rounds = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+        long start = System.nanoTime();
+        try (RoundJournal journal = new RoundJournal(file)) {
+            Deck deck = new Deck(decks, 0.75, new SplittableRandom());
+            new Game(deck, PlayerInput.auto(Strategy.standOn(17), rounds), journal).run();
+            System.out.printf("Записано раундов: %d, %d байт, %.2f с%n",
+                    rounds, journal.size(), (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.example;
+
+/** Правила раунда, общие для консольной игры и симуляции. */
+final class Rules {
+    static final int BLACKJACK = 21;
+    static final int DEALER_STANDS_ON = 17;
+
+    private Rules() {
+    }
+
+    /** Итог сразу после раздачи, если у кого-то блэкджек, иначе {@code null}. */
+    static Outcome immediateOutcome(Hand player, Hand dealer) {
+        boolean playerBlackjack = player.isBlackJack();
+        boolean dealerBlackjack = dealer.isBlackJack();
+        if (playerBlackjack && dealerBlackjack) {
+            return Outcome.DRAW;
+        }
+        if (playerBlackjack) {
+            return Outcome.PLAYER_WIN;
+        }
+        if (dealerBlackjack) {
+            return Outcome.DEALER_WIN;
+        }
+        return null;
+    }
+
+    /** Игрок больше не может брать карты: перебор или ровно 21. */
+    static boolean playerDone(Hand player) {
+        return player.value() >= BLACKJACK;
+    }
+
+    static boolean dealerHits(Hand dealer) {
+        return dealer.value() < DEALER_STANDS_ON;
+    }
+
+    /** Итог раунда, в котором игрок не перебрал и дилер доиграл. */
+    static Outcome settle(Hand player, Hand dealer) {
+        if (player.isBust()) {
+            return Outcome.DEALER_WIN;
+        }
+        if (dealer.isBust()) {
+            return Outcome.PLAYER_WIN;
+        }
+        int p = player.value();
+        int d = dealer.value();
+        if (p > d) {
+            return Outcome.PLAYER_WIN;
+        }
+        if (p < d) {
+            return Outcome.DEALER_WIN;
+        }
+        return Outcome.DRAW;
+    }
+}
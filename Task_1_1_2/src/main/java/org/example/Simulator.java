@@ -0,0 +1,173 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Консольная игра без консоли: раунды играет {@link Game} с {@link NullRenderer}
+ * и стратегией игрока вместо ввода. Раунды делятся между потоками поровну;
+ * у каждого потока своя колода со своим генератором, засеянным из общего зерна,
+ * поэтому результат при тех же {@code seed} и числе потоков воспроизводим.
+ * Потоки копят счётчики локально, итоги складываются после завершения —
+ * без общих изменяемых данных.
+ */
+class Simulator {
+    private final Strategy strategy;
+    private final int threads;
+    private final long seed;
+    private final int decks;
+    private final double penetration;
+
+    /** Одна колода, раздаётся до конца, как в {@link Game#Game()}. */
+    Simulator(Strategy strategy, int threads, long seed) {
+        this(strategy, threads, seed, 1, 1.0);
+    }
+
+    /**
+     * @param decks       число колод в шузе каждого потока
+     * @param penetration доля шуза до карты отсечки
+     */
+    Simulator(Strategy strategy, int threads, long seed, int decks, double penetration) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    "Число потоков должно быть положительным: " + threads);
+        }
+        this.strategy = strategy;
+        this.threads = threads;
+        this.seed = seed;
+        this.decks = decks;
+        this.penetration = penetration;
+    }
+
+    /** Итоги серии раундов; ставка 1, выигрыш оплачивается 1:1, как в {@link Game}. */
+    static final class Result {
+        final long rounds;
+        final long wins;
+        final long losses;
+        final long draws;
+
+        Result(long wins, long losses, long draws) {
+            this.rounds = wins + losses + draws;
+            this.wins = wins;
+            this.losses = losses;
+            this.draws = draws;
+        }
+
+        Result combine(Result other) {
+            return new Result(wins + other.wins, losses + other.losses, draws + other.draws);
+        }
+
+        double winRate() {
+            return rounds == 0 ? 0 : wins / (double) rounds;
+        }
+
+        double lossRate() {
+            return rounds == 0 ? 0 : losses / (double) rounds;
+        }
+
+        double drawRate() {
+            return rounds == 0 ? 0 : draws / (double) rounds;
+        }
+
+        /** Средний выигрыш игрока за раунд. */
+        double ev() {
+            return rounds == 0 ? 0 : (wins - losses) / (double) rounds;
+        }
+
+        /** Полуширина 95% доверительного интервала для {@link #ev()}. */
+        double evMargin95() {
+            if (rounds < 2) {
+                return Double.NaN;
+            }
+            double mean = ev();
+            double variance = (wins + losses) / (double) rounds - mean * mean;
+            return 1.96 * Math.sqrt(variance / (rounds - 1));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Раундов: %d, победы %.4f, поражения %.4f, ничьи %.4f, "
+                            + "EV %+.5f ± %.5f (95%%)",
+                    rounds, winRate(), lossRate(), drawRate(), ev(), evMargin95());
+        }
+    }
+
+    Result run(long rounds) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result>> parts = new ArrayList<>(threads);
+            SplittableRandom root = new SplittableRandom(seed);
+            for (int t = 0; t < threads; t++) {
+                long share = rounds / threads + (t < rounds % threads ? 1 : 0);
+                Deck deck = new Deck(decks, penetration, root.split());
+                parts.add(pool.submit(() -> play(deck, share)));
+            }
+            Result total = new Result(0, 0, 0);
+            for (Future<Result> part : parts) {
+                total = total.combine(part.get());
+            }
+            return total;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Серия раундов на одной колоде: каждый раунд целиком играет
+     * {@link Game#playRound()} с решениями из {@link PlayerInput#auto}, без вывода;
+     * руки переиспользуются, раунд не создаёт объектов. Счёт ведётся здесь в
+     * {@code long}, а не через {@link Game#run()}: его счётчики — {@code int}, и он
+     * играет хотя бы один раунд, даже если доля потока нулевая.
+     */
+    Result play(Deck deck, long rounds) {
+        Game game = new Game(deck, PlayerInput.auto(strategy, rounds), NullRenderer.INSTANCE);
+        long wins = 0;
+        long losses = 0;
+        long draws = 0;
+        for (long r = 0; r < rounds; r++) {
+            game.playRound();
+            if (game.outcome == Outcome.PLAYER_WIN) {
+                wins++;
+            } else if (game.outcome == Outcome.DEALER_WIN) {
+                losses++;
+            } else {
+                draws++;
+            }
+        }
+        return new Result(wins, losses, draws);
+    }
+
+    /**
+     * {@code simulate [раунды] [потоки] [seed] [колоды] [отсечка] [файл стратегии]};
+     * без файла стратегии игрок останавливается на 17.
+     */
+    static void main(String[] args) throws InterruptedException, IOException {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+        int threads = args.length > 1
+                ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        int decks = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        double penetration = args.length > 4 ? Double.parseDouble(args[4]) : 1.0;
+        Strategy strategy = args.length > 5
+                ? StrategyTable.load(Path.of(args[5]))
+                : Strategy.standOn(17);
+
+        long start = System.nanoTime();
+        Result result = new Simulator(strategy, threads, seed, decks, penetration)
+                .run(rounds);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(result);
+        System.out.printf("%.2f с, %.0f раундов/с, потоков %d%n",
+                seconds, result.rounds / seconds, threads);
+    }
+}
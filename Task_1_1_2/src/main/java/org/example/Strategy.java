@@ -0,0 +1,18 @@
+package org.example;
+
+/** Решение игрока без участия человека. */
+@FunctionalInterface
+interface Strategy {
+
+    /**
+     * @param player       рука игрока (ещё не 21 и не перебор)
+     * @param dealerUpcard код открытой карты дилера, см. {@link Card#encode}
+     * @return {@code true} — взять карту, {@code false} — стоп
+     */
+    boolean hit(Hand player, int dealerUpcard);
+
+    /** Берёт карты, пока сумма меньше {@code total}; {@code standOn(17)} играет как дилер. */
+    static Strategy standOn(int total) {
+        return (player, upcard) -> player.value() < total;
+    }
+}
@@ -0,0 +1,170 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Точный EV решений «взять / стоп» перебором expectimax по составу шуза.
+ * Ход игрока — максимум из EV стопа и EV добора, добор — среднее по картам шуза
+ * с учётом их количества. EV стопа считается по {@link DealerOdds} при условии,
+ * что у дилера нет блэкджека (иначе раунд закончился бы сразу после раздачи);
+ * влияние этого условия на карты, которые тянет игрок, не учитывается.
+ * Выигрыш 1:1, как в {@link Game}.
+ *
+ * <p>Состояния игрока ({@code состав, жёсткая сумма, есть туз, открытая карта})
+ * запоминаются в общей таблице транспозиций: одна и та же рука, собранная в разном
+ * порядке, считается один раз. Ячейки таблицы стратегии независимы и считаются
+ * параллельно.
+ */
+final class StrategySolver {
+    private final DealerOdds odds;
+    private final Map<Long, Double> cache = new ConcurrentHashMap<>();
+
+    StrategySolver(int decks) {
+        this.odds = new DealerOdds(decks);
+    }
+
+    /** Рассчитывает все ячейки {@link StrategyTable} для полного шуза. */
+    StrategyTable solve() {
+        StrategyTable table = new StrategyTable();
+        int hardRows = StrategyTable.MAX_HARD - StrategyTable.MIN_HARD + 1;
+        int softRows = StrategyTable.MAX_SOFT - StrategyTable.MIN_SOFT + 1;
+        int cells = (hardRows + softRows) * DealerOdds.CLASSES;
+        IntStream.range(0, cells).parallel().forEach(cell -> {
+            int row = cell / DealerOdds.CLASSES;
+            int up = cell % DealerOdds.CLASSES;
+            boolean soft = row >= hardRows;
+            int total = soft
+                    ? StrategyTable.MIN_SOFT + row - hardRows
+                    : StrategyTable.MIN_HARD + row;
+            int[] hand = representative(soft, total);
+            table.set(soft, total, up, hitEv(hand[0], hand[1], up) > standEv(hand[0], hand[1], up));
+        });
+        return table;
+    }
+
+    /**
+     * Типичная двухкарточная рука для ячейки: жёсткие 4..11 — двойка и остаток,
+     * 12..20 — десятка и остаток, мягкие — туз и остаток.
+     *
+     * @return классы двух карт
+     */
+    static int[] representative(boolean soft, int total) {
+        if (soft) {
+            int rest = total - 11;
+            return new int[]{0, rest == 1 ? 0 : rest - 1};
+        }
+        if (total <= 11) {
+            return new int[]{1, total - 3};
+        }
+        return new int[]{9, total - 11};
+    }
+
+    /** EV стопа на картах классов {@code a, b} против открытой карты класса {@code up}. */
+    double standEv(int a, int b, int up) {
+        int[] comp = deal(a, b, up);
+        return stand(comp, value(hardOf(a) + hardOf(b), a == 0 || b == 0), up);
+    }
+
+    /** EV добора с дальнейшей оптимальной игрой. */
+    double hitEv(int a, int b, int up) {
+        int[] comp = deal(a, b, up);
+        return hit(comp, remaining(comp), odds.key(comp), hardOf(a) + hardOf(b),
+                a == 0 || b == 0, up);
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    private int[] deal(int a, int b, int up) {
+        int[] comp = odds.fullShoe();
+        comp[a]--;
+        comp[b]--;
+        comp[up]--;
+        return comp;
+    }
+
+    private double best(int[] comp, int remaining, long key, int hard, boolean ace, int up) {
+        int value = value(hard, ace);
+        if (value > Rules.BLACKJACK) {
+            return -1;
+        }
+        if (value == Rules.BLACKJACK) {
+            return stand(comp, value, up);
+        }
+        long stateKey = (key * 64 + hard * 2 + (ace ? 1 : 0)) * DealerOdds.CLASSES + up;
+        Double cached = cache.get(stateKey);
+        if (cached != null) {
+            return cached;
+        }
+        double ev = Math.max(stand(comp, value, up), hit(comp, remaining, key, hard, ace, up));
+        cache.put(stateKey, ev);
+        return ev;
+    }
+
+    private double hit(int[] comp, int remaining, long key, int hard, boolean ace, int up) {
+        double ev = 0;
+        for (int c = 0; c < DealerOdds.CLASSES; c++) {
+            if (comp[c] == 0) {
+                continue;
+            }
+            double p = comp[c] / (double) remaining;
+            comp[c]--;
+            ev += p * best(comp, remaining - 1, key - odds.radix(c), hard + c + 1,
+                    ace || c == 0, up);
+            comp[c]++;
+        }
+        return ev;
+    }
+
+    private double stand(int[] comp, int value, int up) {
+        double[] d = odds.distribution(Card.encode(upRank(up), Suit.SPADES), comp);
+        double noBlackjack = 1 - d[DealerOdds.BLACKJACK];
+        double ev = d[DealerOdds.BUST];
+        for (int t = Rules.DEALER_STANDS_ON; t <= Rules.BLACKJACK; t++) {
+            double p = d[t - Rules.DEALER_STANDS_ON];
+            if (value > t) {
+                ev += p;
+            } else if (value < t) {
+                ev -= p;
+            }
+        }
+        return ev / noBlackjack;
+    }
+
+    private static Rank upRank(int up) {
+        return up == 0 ? Rank.ACE : Rank.values()[up - 1];
+    }
+
+    private static int hardOf(int c) {
+        return c + 1;
+    }
+
+    private static int value(int hard, boolean ace) {
+        return ace && hard + 10 <= Rules.BLACKJACK ? hard + 10 : hard;
+    }
+
+    private static int remaining(int[] comp) {
+        int n = 0;
+        for (int count : comp) {
+            n += count;
+        }
+        return n;
+    }
+
+    /** {@code strategy [колоды] [файл]}: рассчитывает таблицу и сохраняет её в файл. */
+    static void main(String[] args) throws IOException {
+        int decks = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        Path file = Path.of(args.length > 1 ? args[1] : "strategy.csv");
+        long start = System.nanoTime();
+        StrategySolver solver = new StrategySolver(decks);
+        StrategyTable table = solver.solve();
+        table.save(file);
+        System.out.printf("Таблица для %d колод записана в %s за %.2f с (состояний: %d)%n",
+                decks, file, (System.nanoTime() - start) / 1e9, solver.cacheSize());
+    }
+}
@@ -0,0 +1,157 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Таблица решений «взять / стоп» по сумме игрока и открытой карте дилера.
+ * Строки {@code H4..H20} — жёсткие суммы, {@code S12..S20} — мягкие; столбцы —
+ * классы открытой карты {@link DealerOdds#classOf}: 2..10, затем туз.
+ * Сохраняется в текстовом виде:
+ * <pre>
+ * total,2,3,4,5,6,7,8,9,10,A
+ * H12,H,H,S,S,S,H,H,H,H,H
+ * </pre>
+ * Суммы вне таблицы: меньше — брать, 21 и больше — стоп.
+ */
+final class StrategyTable implements Strategy {
+    static final int MIN_HARD = 4;
+    static final int MAX_HARD = 20;
+    static final int MIN_SOFT = 12;
+    static final int MAX_SOFT = 20;
+
+    private static final String HEADER = "total,2,3,4,5,6,7,8,9,10,A";
+
+    private final boolean[][] hitHard = new boolean[MAX_HARD + 1][DealerOdds.CLASSES];
+    private final boolean[][] hitSoft = new boolean[MAX_SOFT + 1][DealerOdds.CLASSES];
+
+    @Override
+    public boolean hit(Hand player, int dealerUpcard) {
+        return hits(player.isSoft(), player.value(), DealerOdds.classOf(dealerUpcard));
+    }
+
+    boolean hits(boolean soft, int total, int upClass) {
+        int min = soft ? MIN_SOFT : MIN_HARD;
+        int max = soft ? MAX_SOFT : MAX_HARD;
+        if (total < min) {
+            return true;
+        }
+        if (total > max) {
+            return false;
+        }
+        return (soft ? hitSoft : hitHard)[total][upClass];
+    }
+
+    void set(boolean soft, int total, int upClass, boolean hit) {
+        (soft ? hitSoft : hitHard)[total][upClass] = hit;
+    }
+
+    void write(Writer out) throws IOException {
+        out.write(HEADER);
+        out.write('\n');
+        for (int t = MIN_HARD; t <= MAX_HARD; t++) {
+            writeRow(out, 'H', t, hitHard[t]);
+        }
+        for (int t = MIN_SOFT; t <= MAX_SOFT; t++) {
+            writeRow(out, 'S', t, hitSoft[t]);
+        }
+        out.flush();
+    }
+
+    private static void writeRow(Writer out, char kind, int total, boolean[] row)
+            throws IOException {
+        StringBuilder sb = new StringBuilder().append(kind).append(total);
+        for (int i = 0; i < DealerOdds.CLASSES; i++) {
+            sb.append(',').append(row[columnClass(i)] ? 'H' : 'S');
+        }
+        out.write(sb.append('\n').toString());
+    }
+
+    /**
+     * Читает таблицу в формате {@link #write}. Каждая строка {@code H4..H20} и
+     * {@code S12..S20} должна встретиться ровно один раз, порядок строк не важен.
+     *
+     * @param in источник текста таблицы
+     * @return прочитанная таблица
+     * @throws IOException при ошибке чтения, неверном заголовке, строке или ячейке,
+     *                     повторе строки или отсутствии какой-либо строки
+     */
+    static StrategyTable read(Reader in) throws IOException {
+        StrategyTable table = new StrategyTable();
+        BufferedReader reader = new BufferedReader(in);
+        String header = reader.readLine();
+        if (!HEADER.equals(header)) {
+            throw new IOException("Неожиданный заголовок таблицы стратегии: " + header);
+        }
+        boolean[][] seen = {new boolean[MAX_HARD + 1], new boolean[MAX_SOFT + 1]};
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] cells = line.split(",");
+            if (cells.length != DealerOdds.CLASSES + 1 || cells[0].length() < 2) {
+                throw new IOException("Неверная строка таблицы стратегии: " + line);
+            }
+            boolean soft = cells[0].charAt(0) == 'S';
+            int total;
+            try {
+                total = Integer.parseInt(cells[0].substring(1));
+            } catch (NumberFormatException e) {
+                throw new IOException("Неверная строка таблицы стратегии: " + line, e);
+            }
+            boolean known = soft
+                    ? total >= MIN_SOFT && total <= MAX_SOFT
+                    : cells[0].charAt(0) == 'H' && total >= MIN_HARD && total <= MAX_HARD;
+            if (!known) {
+                throw new IOException("Неверная строка таблицы стратегии: " + line);
+            }
+            boolean[] seenKind = seen[soft ? 1 : 0];
+            if (seenKind[total]) {
+                throw new IOException("Повтор строки таблицы стратегии: " + line);
+            }
+            seenKind[total] = true;
+            for (int i = 0; i < DealerOdds.CLASSES; i++) {
+                String cell = cells[i + 1].trim();
+                if (!cell.equals("H") && !cell.equals("S")) {
+                    throw new IOException("Неверная ячейка '" + cell + "' в строке: " + line);
+                }
+                table.set(soft, total, columnClass(i), cell.equals("H"));
+            }
+        }
+        for (int t = MIN_HARD; t <= MAX_HARD; t++) {
+            if (!seen[0][t]) {
+                throw new IOException("Нет строки таблицы стратегии: H" + t);
+            }
+        }
+        for (int t = MIN_SOFT; t <= MAX_SOFT; t++) {
+            if (!seen[1][t]) {
+                throw new IOException("Нет строки таблицы стратегии: S" + t);
+            }
+        }
+        return table;
+    }
+
+    void save(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            write(out);
+        }
+    }
+
+    static StrategyTable load(Path file) throws IOException {
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(in);
+        }
+    }
+
+    /** Класс открытой карты для столбца {@code i}: 2..10, затем туз. */
+    private static int columnClass(int i) {
+        return i == DealerOdds.CLASSES - 1 ? 0 : i + 1;
+    }
+}
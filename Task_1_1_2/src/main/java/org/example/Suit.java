@@ -12,6 +12,15 @@ enum Suit {
         this.label = label;
     }
 
+    static Suit byLabel(String label) {
+        for (Suit x : values()) {
+            if (x.label.equals(label)) {
+                return x;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестная масть: " + label);
+    }
+
     String label() {
         return label;
     }
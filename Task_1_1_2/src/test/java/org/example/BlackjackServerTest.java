@@ -0,0 +1,92 @@
+package org.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Строковый протокол сервера и нагрузочный клиент. */
+class BlackjackServerTest {
+
+    @Test
+    @DisplayName("Сессия: приветствие, раунд, ошибки протокола, выход")
+    void protocol() throws Exception {
+        try (BlackjackServer server = new BlackjackServer(0, 6, 0.75);
+             Socket socket = new Socket("127.0.0.1", server.port());
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true,
+                     StandardCharsets.UTF_8)) {
+            assertEquals(BlackjackServer.GREETING, in.readLine());
+
+            out.println("HIT");
+            assertTrue(in.readLine().startsWith("ERR "));
+            out.println("FOLD");
+            assertEquals("ERR неизвестная команда: FOLD", in.readLine());
+
+            out.println("deal");
+            String reply = in.readLine();
+            while (reply.startsWith("TURN")) {
+                String[] turn = reply.split(" ");
+                assertEquals(4, turn.length);
+                out.println("stand");
+                reply = in.readLine();
+            }
+            String[] done = reply.split(" ");
+            assertEquals("DONE", done[0]);
+            assertEquals(7, done.length);
+            Outcome.valueOf(done[1]);
+            assertEquals(1, Integer.parseInt(done[4]) + Integer.parseInt(done[5])
+                    + Integer.parseInt(done[6]));
+
+            out.println("QUIT");
+            assertEquals("BYE", in.readLine());
+            assertEquals(null, in.readLine());
+            assertEquals(1, server.roundsPlayed());
+        }
+    }
+
+    @Test
+    @DisplayName("Нагрузочный клиент: все сессии доигрывают, задержки собраны")
+    void loadGenerator() throws Exception {
+        try (BlackjackServer server = new BlackjackServer(0, 2, 0.5)) {
+            LoadGenerator.Report report = LoadGenerator.run("127.0.0.1", server.port(), 20, 25);
+            assertEquals(0, report.failedSessions);
+            assertEquals(500, report.rounds);
+            assertEquals(500, server.roundsPlayed());
+            // DEAL не замеряется; раунды с блэкджеком после раздачи решений не имеют
+            assertTrue(report.decisions() > 0 && report.decisions() <= 500L * 11);
+            assertTrue(report.latencyPercentile(0.99) >= report.latencyPercentile(0.5));
+            assertTrue(report.latencyPercentile(0.5) > 0);
+            assertTrue(report.roundsPerSecond() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Закрытие сервера обрывает открытые сессии")
+    void closeDrainsSessions() throws Exception {
+        BlackjackServer server = new BlackjackServer(0, 1, 1.0);
+        try (Socket socket = new Socket("127.0.0.1", server.port());
+             BufferedReader in = new BufferedReader(new InputStreamReader(
+                     socket.getInputStream(), StandardCharsets.UTF_8))) {
+            assertEquals(BlackjackServer.GREETING, in.readLine());
+            server.close();
+            String line;
+            try {
+                line = in.readLine();
+            } catch (IOException e) {
+                line = null;
+            }
+            assertEquals(null, line);
+        }
+        server.close();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Компактная модель карт: коды, колода-массив и рука с инкрементальной суммой. */
+class CardModelTest {
+
+    @Test
+    @DisplayName("Код карты однозначно задаёт ранг, масть и очки")
+    void codeRoundTrip() {
+        for (Suit s : Suit.values()) {
+            for (Rank r : Rank.values()) {
+                int code = Card.encode(r, s);
+                assertEquals(r, Card.rankOf(code));
+                assertEquals(s, Card.suitOf(code));
+                assertEquals(r.value(), Card.valueOf(code));
+                assertEquals(r == Rank.ACE, Card.isAce(code));
+                Card c = Card.of(code);
+                assertEquals(code, c.code);
+                assertEquals(r.label() + " " + s.label() + " (" + r.value() + ")", c.toString());
+            }
+        }
+        assertEquals(Card.encode(Rank.QUEEN, Suit.HEARTS), new Card("Черви", "Дама", 10).code);
+        assertThrows(IllegalArgumentException.class, () -> new Card("Черви", "Джокер", 0));
+    }
+
+    @Test
+    @DisplayName("Deck: 52 разные карты за колоду, затем пересбор")
+    void deckDealsEveryCodeOnce() {
+        Deck d = new Deck();
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < Card.CODES; i++) {
+            assertTrue(seen.add(d.dealCode()));
+        }
+        assertEquals(0, d.remaining());
+        Card first = d.deal();
+        assertSame(Card.of(d.shoe[0]), first);
+        assertEquals(Card.CODES - 1, d.remaining());
+    }
+
+    @Test
+    @DisplayName("Hand: мягкие тузы понижаются по мере добора")
+    void softAcesTrackedIncrementally() {
+        Hand h = new Hand();
+        h.add(Card.of(Card.encode(Rank.ACE, Suit.SPADES)));
+        h.add(Card.of(Card.encode(Rank.ACE, Suit.HEARTS)));
+        assertEquals(12, h.value());
+        assertTrue(h.isSoft());
+        h.add(Card.of(Card.encode(Rank.NINE, Suit.CLUBS)));
+        assertEquals(21, h.value());
+        assertTrue(h.isSoft());
+        assertFalse(h.isBlackJack());
+        h.add(Card.of(Card.encode(Rank.FIVE, Suit.CLUBS)));
+        assertEquals(16, h.value());
+        assertFalse(h.isSoft());
+        assertEquals(4, h.size());
+        for (int i = 0; i < 10; i++) {
+            h.add(Card.of(Card.encode(Rank.TWO, Suit.DIAMONDS)));
+        }
+        assertEquals(14, h.size());
+        assertTrue(h.isBust());
+
+        h.clear();
+        assertEquals(0, h.value());
+        assertEquals(0, h.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> h.card(0));
+    }
+
+    @Test
+    @DisplayName("Шуз: N колод, карта отсечки и перемешивание на месте")
+    void multiDeckShoeWithCutCard() {
+        Deck d = new Deck(6, 0.75, new SplittableRandom(3));
+        int[] shoe = d.shoe;
+        assertEquals(6 * Card.CODES, d.remaining());
+        int[] counts = new int[Card.CODES];
+        for (int i = 0; i < 234; i++) {
+            assertFalse(d.cutCardReached());
+            counts[d.dealCode()]++;
+        }
+        assertTrue(d.cutCardReached());
+        for (int i = 234; i < 312; i++) {
+            counts[d.dealCode()]++;
+        }
+        for (int c : counts) {
+            assertEquals(6, c);
+        }
+
+        d.shuffle();
+        assertSame(shoe, d.shoe);
+        assertEquals(312, d.remaining());
+        assertEquals(d.shoe[0], d.dealCode());
+
+        Deck a = new Deck(2, 1.0, new SplittableRandom(11));
+        Deck b = new Deck(2, 1.0, new SplittableRandom(11));
+        for (int i = 0; i < 300; i++) {
+            assertEquals(a.dealCode(), b.dealCode());
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new Deck(0, 1.0, new SplittableRandom()));
+        assertThrows(IllegalArgumentException.class, () -> new Deck(1, 0, new SplittableRandom()));
+    }
+}
@@ -0,0 +1,115 @@
+package org.example;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Точное распределение итога дилера. */
+class DealerOddsTest {
+
+    private static int code(Rank r) {
+        return Card.encode(r, Suit.CLUBS);
+    }
+
+    /** Перебор без кеша, прямо по {@link Hand} и {@link Rules}. */
+    private static void naive(int[] comp, int remaining, Hand dealer, double p, double[] out) {
+        if (dealer.size() == 2 && dealer.isBlackJack()) {
+            out[DealerOdds.BLACKJACK] += p;
+            return;
+        }
+        if (dealer.isBust()) {
+            out[DealerOdds.BUST] += p;
+            return;
+        }
+        if (!Rules.dealerHits(dealer)) {
+            out[dealer.value() - 17] += p;
+            return;
+        }
+        Rank[] byClass = {Rank.ACE, Rank.TWO, Rank.THREE, Rank.FOUR, Rank.FIVE, Rank.SIX,
+                Rank.SEVEN, Rank.EIGHT, Rank.NINE, Rank.TEN};
+        for (int c = 0; c < DealerOdds.CLASSES; c++) {
+            if (comp[c] == 0) {
+                continue;
+            }
+            double q = p * comp[c] / remaining;
+            comp[c]--;
+            Hand next = new Hand();
+            for (int i = 0; i < dealer.size(); i++) {
+                next.add(dealer.card(i));
+            }
+            next.add(Card.of(code(byClass[c])));
+            naive(comp, remaining - 1, next, q, out);
+            comp[c]++;
+        }
+    }
+
+    @Test
+    @DisplayName("Совпадает с перебором без кеша для каждой открытой карты")
+    void matchesNaiveEnumeration() {
+        DealerOdds odds = new DealerOdds(1);
+        for (Rank up : new Rank[]{Rank.ACE, Rank.TWO, Rank.SIX, Rank.NINE, Rank.KING}) {
+            int[] comp = odds.fullShoe();
+            comp[DealerOdds.classOf(code(up))]--;
+            comp[9] -= 3;
+            comp[4]--;
+            double[] expected = new double[DealerOdds.OUTCOMES];
+            Hand dealer = new Hand();
+            dealer.add(Card.of(code(up)));
+            naive(comp.clone(), 47, dealer, 1.0, expected);
+            assertArrayEquals(expected, odds.distribution(code(up), comp), 1e-12, up.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Сумма вероятностей 1, блэкджек по составу, результат не зависит от кеша")
+    void probabilities() {
+        DealerOdds odds = new DealerOdds(6);
+        int[] comp = odds.fullShoe();
+        comp[0]--;
+        double[] ace = odds.distribution(code(Rank.ACE), comp);
+        double sum = 0;
+        for (double p : ace) {
+            sum += p;
+        }
+        assertEquals(1.0, sum, 1e-12);
+        assertEquals(96.0 / 311, ace[DealerOdds.BLACKJACK], 1e-12);
+        assertTrue(odds.cacheSize() > 0);
+
+        int[] six = odds.fullShoe();
+        six[5]--;
+        double bust = odds.bust(code(Rank.SIX), six);
+        assertTrue(bust > 0.41 && bust < 0.43, "bust=" + bust);
+        odds.clearCache();
+        assertEquals(bust, odds.bust(code(Rank.SIX), six), 1e-15);
+    }
+
+    @Test
+    @DisplayName("Состав нерозданной части шуза и проверка аргументов")
+    void compositionOfDeck() {
+        Deck deck = new Deck(2, 1.0, new SplittableRandom(1));
+        for (int i = 0; i < 10; i++) {
+            deck.dealCode();
+        }
+        int[] comp = DealerOdds.composition(deck);
+        int total = 0;
+        for (int c : comp) {
+            total += c;
+        }
+        assertEquals(94, total);
+
+        DealerOdds odds = new DealerOdds(1);
+        assertThrows(IllegalArgumentException.class, () -> new DealerOdds(9));
+        assertThrows(IllegalArgumentException.class,
+                () -> odds.distribution(code(Rank.TWO), new int[DealerOdds.CLASSES]));
+        int[] tooMany = odds.fullShoe();
+        tooMany[3]++;
+        assertThrows(IllegalArgumentException.class,
+                () -> odds.distribution(code(Rank.TWO), tooMany));
+    }
+}
@@ -0,0 +1,161 @@
+package org.example;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Автомат раунда {@link Game} и его получатели событий. */
+class GameEventsTest {
+
+    /** Раздаёт карты заданных рангов по кругу. */
+    static class ScriptedDeck extends Deck {
+        private final Rank[] ranks;
+        private int pos;
+
+        ScriptedDeck(Rank... ranks) {
+            this.ranks = ranks;
+        }
+
+        @Override
+        Card deal() {
+            return Card.of(Card.encode(ranks[pos++ % ranks.length], Suit.HEARTS));
+        }
+    }
+
+    /** Записывает имена событий. */
+    static class Recorder implements Renderer {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void roundStarted(int round) {
+            events.add("round" + round);
+        }
+
+        @Override
+        public void dealt(Hand player, Hand dealer) {
+            events.add("deal");
+        }
+
+        @Override
+        public void playerHit(Card card, Hand player, Hand dealer) {
+            events.add("hit");
+        }
+
+        @Override
+        public void playerStood(Hand player, Hand dealer, boolean automatic) {
+            events.add(automatic ? "autoStand" : "stand");
+        }
+
+        @Override
+        public void playerBusted(Hand player, Hand dealer) {
+            events.add("bust");
+        }
+
+        @Override
+        public void dealerHit(Card card, Hand player, Hand dealer) {
+            events.add("dealerHit");
+        }
+
+        @Override
+        public void dealerBusted(Hand player, Hand dealer) {
+            events.add("dealerBust");
+        }
+
+        @Override
+        public void settled(Outcome outcome, Hand player, Hand dealer,
+                            int playerWins, int dealerWins, int draws) {
+            events.add(outcome.name());
+        }
+    }
+
+    @Test
+    @DisplayName("Автомат: ход игрока, переход к дилеру, запрет ходов вне очереди")
+    void stateMachine() {
+        Recorder rec = new Recorder();
+        Game g = new Game(new ScriptedDeck(Rank.NINE, Rank.TEN, Rank.FIVE, Rank.SIX,
+                Rank.SEVEN, Rank.TEN, Rank.TEN), PlayerInput.auto(Strategy.standOn(17), 1), rec);
+        assertEquals(Game.Phase.WAITING, g.phase);
+        assertThrows(IllegalStateException.class, g::hit);
+
+        g.startRound();
+        assertEquals(Game.Phase.PLAYER_TURN, g.phase);
+        assertThrows(IllegalStateException.class, g::startRound);
+        g.hit();
+        assertEquals(21, g.player.value());
+        assertEquals(Game.Phase.ROUND_OVER, g.phase);
+        assertEquals(Outcome.PLAYER_WIN, g.outcome);
+        assertEquals(List.of("round1", "deal", "hit", "autoStand", "dealerHit", "dealerBust",
+                "PLAYER_WIN"), rec.events);
+        assertThrows(IllegalStateException.class, g::stand);
+
+        rec.events.clear();
+        g.startRound();
+        g.stand();
+        assertEquals(List.of("round2", "deal", "stand", "dealerHit", "DRAW"), rec.events);
+        assertEquals(20, g.dealer.value());
+        assertEquals(1, g.playerWins);
+        assertEquals(1, g.draws);
+    }
+
+    @Test
+    @DisplayName("run: PlayerInput.auto играет заданное число раундов")
+    void autoInputRunsFixedRounds() {
+        Recorder rec = new Recorder();
+        Game g = new Game(new Deck(), PlayerInput.auto(Strategy.standOn(15), 25), rec);
+        g.run();
+        assertEquals(25, g.round);
+        assertEquals(25, g.playerWins + g.dealerWins + g.draws);
+        assertTrue(rec.events.contains("round25"));
+        assertTrue(!rec.events.contains("round26"));
+    }
+
+    @Test
+    @DisplayName("JSON Lines: одна строка на событие, закрытая карта не раскрывается")
+    void jsonLines() {
+        StringWriter w = new StringWriter();
+        Game g = new Game(new ScriptedDeck(Rank.NINE, Rank.TEN, Rank.FIVE, Rank.SIX,
+                Rank.TEN), PlayerInput.auto(Strategy.standOn(17), 1), new JsonLinesRenderer(w));
+        g.run();
+        String[] lines = w.toString().split("\n");
+        int ten = Card.encode(Rank.TEN, Suit.HEARTS);
+        assertEquals("{\"event\":\"gameStart\"}", lines[0]);
+        assertEquals("{\"event\":\"roundStart\",\"round\":1}", lines[1]);
+        assertEquals("{\"event\":\"deal\",\"round\":1,\"player\":["
+                + Card.encode(Rank.NINE, Suit.HEARTS) + "," + Card.encode(Rank.FIVE, Suit.HEARTS)
+                + "],\"playerTotal\":14,\"dealerUpcard\":" + ten + "}", lines[2]);
+        assertTrue(lines[3].startsWith("{\"event\":\"hit\",\"round\":1,\"card\":" + ten));
+        assertTrue(lines[4].startsWith("{\"event\":\"bust\""));
+        assertTrue(lines[5].startsWith(
+                "{\"event\":\"settle\",\"round\":1,\"outcome\":\"DEALER_WIN\""));
+        assertTrue(lines[5].endsWith(",\"playerWins\":0,\"dealerWins\":1,\"draws\":0}"));
+        assertEquals("{\"event\":\"gameEnd\",\"round\":1}", lines[6]);
+        assertEquals(7, lines.length);
+    }
+
+    @Test
+    @DisplayName("Консоль: вывод копится и сбрасывается в конце раунда")
+    void consoleBuffersUntilSettle() {
+        ByteArrayOutputStream bout = new ByteArrayOutputStream();
+        PrintStream ps = new PrintStream(bout, true, StandardCharsets.UTF_8);
+        Game g = new Game(new ScriptedDeck(Rank.NINE, Rank.TEN, Rank.FIVE, Rank.SIX, Rank.TEN),
+                PlayerInput.auto(Strategy.standOn(17), 1), new ConsoleRenderer(() -> ps));
+        g.startRound();
+        assertEquals(0, bout.size());
+        g.hit();
+        String out = bout.toString(StandardCharsets.UTF_8);
+        assertTrue(out.contains("Раунд 1"));
+        assertTrue(out.contains("Вы открыли карту: Десятка Черви (10)"));
+        assertTrue(out.contains("Перебор. Вы проиграли раунд!"));
+        assertTrue(out.contains("Счёт 0:1 в пользу дилера."));
+    }
+}
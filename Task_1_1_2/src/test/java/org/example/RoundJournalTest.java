@@ -0,0 +1,96 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Двоичный журнал раундов и его проверка проигрыванием. */
+class RoundJournalTest {
+    private static final int CHUNK = 64;
+
+    @TempDir
+    Path dir;
+
+    private static Game record(RoundJournal journal, long seed, long rounds) {
+        Deck deck = new Deck(2, 0.75, new SplittableRandom(seed));
+        Game game = new Game(deck, PlayerInput.auto(Strategy.standOn(17), rounds), journal);
+        game.run();
+        return game;
+    }
+
+    private static void assertScores(JournalReplayer.Scores scores, long rounds,
+                                     long playerWins, long dealerWins, long draws) {
+        assertEquals(rounds, scores.rounds);
+        assertEquals(playerWins, scores.playerWins);
+        assertEquals(dealerWins, scores.dealerWins);
+        assertEquals(draws, scores.draws);
+    }
+
+    @Test
+    @DisplayName("Проигрывание восстанавливает счёт игры, окна пересекают записи")
+    void replayMatchesGame() throws IOException {
+        Path file = dir.resolve("rounds.bjl");
+        Game game;
+        try (RoundJournal journal = new RoundJournal(file, CHUNK)) {
+            game = record(journal, 7, 5_000);
+        }
+        JournalReplayer.Scores scores = JournalReplayer.replay(file, CHUNK - 1);
+        assertScores(scores, 5_000, game.playerWins, game.dealerWins, game.draws);
+        // каждый раунд — раздача и итог, каждая карта — один байт
+        assertTrue(Files.size(file) >= 4 + 5_000 * 7L);
+    }
+
+    @Test
+    @DisplayName("Повторное открытие дописывает в конец, в том числе после необрезанного окна")
+    void appendsAfterReopenAndUntruncatedTail() throws IOException {
+        Path file = dir.resolve("rounds.bjl");
+        Game first;
+        try (RoundJournal journal = new RoundJournal(file, CHUNK)) {
+            first = record(journal, 1, 300);
+        }
+        long size = Files.size(file);
+        // как после аварийного завершения: хвост отображённого окна остался нулями
+        Files.write(file, new byte[CHUNK * 3], StandardOpenOption.APPEND);
+        assertScores(JournalReplayer.replay(file), 300,
+                first.playerWins, first.dealerWins, first.draws);
+
+        Game second;
+        try (RoundJournal journal = new RoundJournal(file, CHUNK)) {
+            assertEquals(size, journal.size());
+            second = record(journal, 2, 200);
+        }
+        assertScores(JournalReplayer.replay(file), 500,
+                first.playerWins + second.playerWins,
+                first.dealerWins + second.dealerWins,
+                first.draws + second.draws);
+    }
+
+    @Test
+    @DisplayName("Итог, не совпадающий с правилами, и чужой файл отвергаются")
+    void rejectsTamperedAndForeignFiles() throws IOException {
+        Path file = dir.resolve("rounds.bjl");
+        try (RoundJournal journal = new RoundJournal(file)) {
+            record(journal, 3, 100);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int last = bytes.length - 1;
+        bytes[last] = (byte) (bytes[last] % Outcome.values().length + 1);
+        Files.write(file, bytes);
+        IOException e = assertThrows(IOException.class, () -> JournalReplayer.replay(file));
+        assertTrue(e.getMessage().contains("раунд 100"), e.getMessage());
+
+        Files.writeString(file, "total,2,3");
+        assertThrows(IOException.class, () -> JournalReplayer.replay(file));
+        assertThrows(IOException.class, () -> new RoundJournal(file));
+    }
+}
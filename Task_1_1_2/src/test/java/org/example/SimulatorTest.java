@@ -0,0 +1,112 @@
+package org.example;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Безголовая симуляция и общие правила раунда. */
+class SimulatorTest {
+
+    private static Card card(Rank r) {
+        return Card.of(Card.encode(r, Suit.SPADES));
+    }
+
+    private static Hand hand(Rank... ranks) {
+        Hand h = new Hand();
+        for (Rank r : ranks) {
+            h.add(card(r));
+        }
+        return h;
+    }
+
+    @Test
+    @DisplayName("Rules: блэкджеки после раздачи и расчёт раунда")
+    void rules() {
+        Hand bj = hand(Rank.ACE, Rank.KING);
+        Hand twenty = hand(Rank.TEN, Rank.QUEEN);
+        assertEquals(Outcome.PLAYER_WIN, Rules.immediateOutcome(bj, twenty));
+        assertEquals(Outcome.DEALER_WIN, Rules.immediateOutcome(twenty, bj));
+        assertEquals(Outcome.DRAW, Rules.immediateOutcome(bj, hand(Rank.JACK, Rank.ACE)));
+        assertEquals(null, Rules.immediateOutcome(twenty, twenty));
+
+        assertEquals(Outcome.DRAW, Rules.settle(twenty, hand(Rank.KING, Rank.KING)));
+        assertEquals(Outcome.DEALER_WIN, Rules.settle(hand(Rank.TEN, Rank.SEVEN), twenty));
+        assertEquals(Outcome.PLAYER_WIN,
+                Rules.settle(hand(Rank.TWO, Rank.THREE), hand(Rank.TEN, Rank.SIX, Rank.NINE)));
+        assertEquals(Outcome.DEALER_WIN,
+                Rules.settle(hand(Rank.TEN, Rank.SIX, Rank.NINE), hand(Rank.TEN, Rank.SIX)));
+        assertTrue(Rules.dealerHits(hand(Rank.TEN, Rank.SIX)));
+        assertTrue(!Rules.dealerHits(hand(Rank.ACE, Rank.SIX)));
+    }
+
+    @Test
+    @DisplayName("Один и тот же seed даёт один и тот же результат")
+    void deterministicPerSeed() throws Exception {
+        Simulator sim = new Simulator(Strategy.standOn(17), 3, 42);
+        Simulator.Result a = sim.run(30_001);
+        Simulator.Result b = sim.run(30_001);
+        assertEquals(30_001, a.rounds);
+        assertEquals(a.wins, b.wins);
+        assertEquals(a.losses, b.losses);
+        assertEquals(a.draws, b.draws);
+        assertEquals(1.0, a.winRate() + a.lossRate() + a.drawRate(), 1e-12);
+    }
+
+    @Test
+    @DisplayName("EV стратегии «как дилер» отрицателен, интервал сужается с числом раундов")
+    void evWithConfidenceInterval() throws Exception {
+        Simulator sim = new Simulator(Strategy.standOn(17), 2, 7);
+        Simulator.Result small = sim.run(10_000);
+        Simulator.Result large = sim.run(400_000);
+        assertTrue(large.ev() < 0, large.toString());
+        assertTrue(large.ev() > -0.2, large.toString());
+        assertTrue(large.evMargin95() < small.evMargin95());
+        assertTrue(large.evMargin95() < 0.01);
+    }
+
+    @Test
+    @DisplayName("Шуз из шести колод с отсечкой воспроизводим по seed")
+    void multiDeckShoe() throws Exception {
+        Simulator sim = new Simulator(Strategy.standOn(17), 2, 99, 6, 0.75);
+        Simulator.Result a = sim.run(20_000);
+        Simulator.Result b = sim.run(20_000);
+        assertEquals(a.wins, b.wins);
+        assertEquals(a.draws, b.draws);
+        assertTrue(a.ev() < 0.05 && a.ev() > -0.2, a.toString());
+    }
+
+    @Test
+    @DisplayName("Серия симулятора совпадает с той же серией, сыгранной Game.run")
+    void playMatchesGameRun() {
+        Strategy strategy = Strategy.standOn(15);
+        Simulator.Result r = new Simulator(strategy, 1, 1)
+                .play(new Deck(2, 0.75, new SplittableRandom(11)), 7_000);
+        Game game = new Game(new Deck(2, 0.75, new SplittableRandom(11)),
+                PlayerInput.auto(strategy, 7_000), NullRenderer.INSTANCE);
+        game.run();
+        assertEquals(game.playerWins, r.wins);
+        assertEquals(game.dealerWins, r.losses);
+        assertEquals(game.draws, r.draws);
+        assertEquals(0, new Simulator(strategy, 1, 1)
+                .play(new Deck(1, 1.0, new SplittableRandom(1)), 0).rounds);
+    }
+
+    @Test
+    @DisplayName("Стратегия видит открытую карту дилера; игрок не берёт после 21")
+    void strategyContract() {
+        Simulator sim = new Simulator((player, upcard) -> {
+            assertTrue(player.value() < 21);
+            assertTrue(upcard >= 0 && upcard < Card.CODES);
+            return true;
+        }, 1, 1);
+        Simulator.Result r = sim.play(new Deck(1, 1.0, new SplittableRandom(5)), 5_000);
+        assertTrue(r.losses > r.wins);
+        assertThrows(IllegalArgumentException.class,
+                () -> new Simulator(Strategy.standOn(17), 0, 1));
+    }
+}
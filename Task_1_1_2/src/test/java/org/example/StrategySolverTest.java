@@ -0,0 +1,114 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Расчёт EV и таблица стратегии. */
+class StrategySolverTest {
+    private static final int TEN = 9;
+    private static final int SIX = 5;
+
+    @Test
+    @DisplayName("Таблица для 6 колод совпадает с базовой стратегией в бесспорных ячейках")
+    void basicStrategyCells() throws Exception {
+        StrategyTable t = new StrategySolver(6).solve();
+        for (int up = 0; up < DealerOdds.CLASSES; up++) {
+            assertTrue(t.hits(false, 11, up));
+            assertFalse(t.hits(false, 17, up));
+            assertTrue(t.hits(true, 17, up));
+            assertFalse(t.hits(true, 19, up));
+        }
+        for (int up = 2; up <= 5; up++) {
+            assertFalse(t.hits(false, 13, up), "13 vs class " + up);
+        }
+        for (int up : new int[]{6, 7, 8, 9, 0}) {
+            assertTrue(t.hits(false, 16, up), "16 vs class " + up);
+        }
+        assertFalse(t.hits(true, 18, 1));
+        assertTrue(t.hits(true, 18, 8));
+        assertTrue(t.hits(false, 3, 0));
+        assertFalse(t.hits(true, 21, 0));
+    }
+
+    @Test
+    @DisplayName("EV стопа на 16 — минус вероятность того, что дилер не переберёт")
+    void standEvAgainstDealerOdds() {
+        StrategySolver solver = new StrategySolver(1);
+        int[] comp = new DealerOdds(1).fullShoe();
+        comp[TEN] -= 2;
+        comp[SIX]--;
+        double[] d = new DealerOdds(1).distribution(Card.encode(Rank.KING, Suit.CLUBS), comp);
+        double expected = (2 * d[DealerOdds.BUST] - (1 - d[DealerOdds.BLACKJACK]))
+                / (1 - d[DealerOdds.BLACKJACK]);
+        assertEquals(expected, solver.standEv(TEN, SIX, TEN), 1e-12);
+        assertTrue(solver.hitEv(1, 1, SIX) > solver.standEv(1, 1, SIX));
+        assertTrue(solver.cacheSize() > 0);
+    }
+
+    @Test
+    @DisplayName("Сохранение и загрузка таблицы; игрок по таблице выигрывает больше")
+    void persistAndPlay(@TempDir Path dir) throws Exception {
+        StrategyTable table = new StrategySolver(1).solve();
+        Path file = dir.resolve("strategy.csv");
+        table.save(file);
+        StrategyTable loaded = StrategyTable.load(file);
+        StringWriter a = new StringWriter();
+        StringWriter b = new StringWriter();
+        table.write(a);
+        loaded.write(b);
+        assertEquals(a.toString(), b.toString());
+        assertTrue(a.toString().startsWith("total,2,3,4,5,6,7,8,9,10,A\nH4,"));
+
+        Simulator.Result byTable = new Simulator(loaded, 1, 5).run(200_000);
+        Simulator.Result dealerLike = new Simulator(Strategy.standOn(17), 1, 5).run(200_000);
+        assertTrue(byTable.ev() > dealerLike.ev(), byTable + " / " + dealerLike);
+    }
+
+    @Test
+    @DisplayName("Загрузка отвергает повреждённые таблицы")
+    void readRejectsMalformed() {
+        assertThrows(IOException.class, () -> StrategyTable.read(new StringReader("")));
+        assertThrows(IOException.class, () -> StrategyTable.read(new StringReader(
+                "total,2,3,4,5,6,7,8,9,10,A\nH12,H,H,S\n")));
+        assertThrows(IOException.class, () -> StrategyTable.read(new StringReader(
+                "total,2,3,4,5,6,7,8,9,10,A\nH12,H,H,S,S,S,H,H,H,H,X\n")));
+        assertThrows(IOException.class, () -> StrategyTable.read(new StringReader(
+                "total,2,3,4,5,6,7,8,9,10,A\nH12,H,H,S,S,S,H,H,H,H,H\n")));
+    }
+
+    @Test
+    @DisplayName("Загрузка отвергает повтор строки, даже если число строк верное")
+    void readRejectsDuplicateAndMissingRows() throws IOException {
+        StringWriter out = new StringWriter();
+        new StrategySolver(1).solve().write(out);
+        String text = out.toString();
+        String h13 = text.substring(text.indexOf("H13,"), text.indexOf("H14,"));
+        String h12 = text.substring(text.indexOf("H12,"), text.indexOf("H13,"));
+
+        IOException dup = assertThrows(IOException.class,
+                () -> StrategyTable.read(new StringReader(text.replace(h13, h12))));
+        assertTrue(dup.getMessage().startsWith("Повтор строки таблицы стратегии: H12"),
+                dup.getMessage());
+        IOException missing = assertThrows(IOException.class,
+                () -> StrategyTable.read(new StringReader(text.replace(h13, ""))));
+        assertEquals("Нет строки таблицы стратегии: H13", missing.getMessage());
+
+        String soft = text.substring(text.indexOf("S12,"));
+        String reordered = text.substring(0, text.indexOf("H4,")) + soft
+                + text.substring(text.indexOf("H4,"), text.indexOf("S12,"));
+        StringWriter again = new StringWriter();
+        StrategyTable.read(new StringReader(reordered)).write(again);
+        assertEquals(text, again.toString());
+    }
+}